@@ -32,6 +32,7 @@ package org.opensearch.security;
 
 import java.io.IOException;
 import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Map;
@@ -52,6 +53,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 public class DefaultObjectMapper {
@@ -120,6 +122,70 @@ public class DefaultObjectMapper {
         }
     }
     
+    public static <T> T readTree(JsonNode node, JavaType jt) throws IOException {
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<T>() {
+                @Override
+                public T run() throws Exception {
+                    return objectMapper.readerFor(jt).readValue(node);
+                }
+            });
+        } catch (final PrivilegedActionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    /**
+     * Creates a deep copy of value by serializing it into a token buffer and reading it back,
+     * no JSON text is created on the way.
+     */
+    public static <T> T copyValue(Object value, JavaType jt) throws IOException {
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<T>() {
+                @Override
+                public T run() throws Exception {
+                    final TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+                    objectMapper.writeValue(buffer, value);
+                    try (JsonParser parser = buffer.asParser()) {
+                        return objectMapper.readValue(parser, jt);
+                    }
+                }
+            });
+        } catch (final PrivilegedActionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    public static JsonNode valueToTree(Object value, boolean omitDefaults) {
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        return AccessController.doPrivileged(new PrivilegedAction<JsonNode>() {
+            @Override
+            public JsonNode run() {
+                return (omitDefaults?defaulOmittingObjectMapper:objectMapper).valueToTree(value);
+            }
+        });
+    }
+
     public static <T> T readValue(String string, Class<T> clazz) throws IOException {
 
         final SecurityManager sm = System.getSecurityManager();
@@ -54,6 +54,7 @@ import org.opensearch.security.configuration.DlsFlsValveImpl;
 import org.opensearch.security.configuration.SecurityFlsDlsIndexSearcherWrapper;
 import org.opensearch.security.configuration.PrivilegesInterceptorImpl;
 import org.opensearch.security.configuration.Salt;
+import org.opensearch.security.configuration.TermsLookupCache;
 import org.opensearch.security.dlic.rest.api.SecurityRestApiActions;
 import org.opensearch.security.filter.SecurityRestFilter;
 import org.opensearch.security.http.SecurityHttpServerTransport;
@@ -98,6 +99,9 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -207,6 +211,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     private volatile IndexResolverReplacer irr;
     private volatile NamedXContentRegistry namedXContentRegistry = null;
     private volatile DlsFlsRequestValve dlsFlsValve = null;
+    private volatile TermsLookupCache termsLookupCache = null;
     private volatile Salt salt;
     private volatile OpensearchDynamicSetting<Boolean> transportPassiveAuthSetting;
 
@@ -506,6 +511,10 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             final ComplianceIndexingOperationListener ciol = new ComplianceIndexingOperationListenerImpl(auditLog);
             indexModule.addIndexOperationListener(ciol);
 
+            if (termsLookupCache != null && termsLookupCache.isCacheEnabled()) {
+                indexModule.addIndexOperationListener(termsLookupCache);
+            }
+
             indexModule.setReaderWrapper(indexService -> new SecurityFlsDlsIndexSearcherWrapper(indexService, settings, adminDns, cs, auditLog, ciol, evaluator, salt));
             indexModule.forceQueryCacheProvider((indexSettings,nodeCache)->new QueryCache() {
 
@@ -780,7 +789,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             auditLog = new NullAuditLog();
             privilegesInterceptor = new PrivilegesInterceptor(resolver, clusterService, localClient, threadPool);
         } else {
-            dlsFlsValve = new DlsFlsValveImpl(settings, localClient, clusterService, resolver, xContentRegistry, threadPool.getThreadContext());
+            termsLookupCache = new TermsLookupCache(settings, localClient, xContentRegistry, namedWriteableRegistry);
+            dlsFlsValve = new DlsFlsValveImpl(settings, localClient, clusterService, resolver, xContentRegistry, threadPool.getThreadContext(),
+                    termsLookupCache);
             auditLog = new AuditLogImpl(settings, configPath, localClient, threadPool, resolver, clusterService, environment);
             privilegesInterceptor = new PrivilegesInterceptorImpl(resolver, clusterService, localClient, threadPool);
         }
@@ -911,12 +922,17 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DISABLED, false, Property.NodeScope, Property.Filtered));
     
             settings.add(Setting.intSetting(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60, 0, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES, false, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 0, 0, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_ENTRIES, 1000, 0, Property.NodeScope, Property.Filtered));
     
             //Security
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_ADVANCED_MODULES_ENABLED, true, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_ALLOW_UNSAFE_DEMOCERTIFICATES, false, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_ALLOW_DEFAULT_INIT_SECURITYINDEX, false, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_BACKGROUND_INIT_IF_SECURITYINDEX_NOT_EXIST, true, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_ENABLED, false, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.simpleString(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_PATH, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DFM_EMPTY_OVERRIDES_ALL, false, Property.NodeScope, Property.Filtered));
             settings.add(Setting.groupSetting(ConfigConstants.SECURITY_AUTHCZ_REST_IMPERSONATION_USERS+".", Property.NodeScope)); //not filtered here
     
@@ -929,6 +945,20 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.groupSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_ENDPOINTS + ".",  Property.NodeScope));
             settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_THREADPOOL_SIZE, 10, Property.NodeScope, Property.Filtered));
             settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN, 100*1000, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_THREADPOOL_OVERFLOW_POLICY, "fallback", Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_THREADPOOL_BLOCK_TIMEOUT_MS, 100L, 0L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_RETRY_MAX_DELAY_MS, 30000L, 0L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_CIRCUIT_BREAKER_FAILURE_THRESHOLD, 10, 0, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_CIRCUIT_BREAKER_OPEN_MS, 5000L, 0L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_SPILL_ENABLED, false, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_SPILL_PATH, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.byteSizeSetting(ConfigConstants.SECURITY_AUDIT_SPILL_MAX_SIZE, new ByteSizeValue(1, ByteSizeUnit.GB), Property.NodeScope, Property.Filtered));
+            settings.add(Setting.byteSizeSetting(ConfigConstants.SECURITY_AUDIT_SPILL_SEGMENT_SIZE, new ByteSizeValue(16, ByteSizeUnit.MB),
+                    new ByteSizeValue(64, ByteSizeUnit.KB), new ByteSizeValue(1, ByteSizeUnit.GB), Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_SPILL_REPLAY_INTERVAL_MS, 5000L, 1L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.listSetting(ConfigConstants.SECURITY_AUDIT_AGGREGATION_CATEGORIES, Collections.emptyList(), Function.identity(), Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_AGGREGATION_WINDOW_MS, 1000L, 1L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_AGGREGATION_MAX_PENDING, 10000, 0, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY, true, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES, true, Property.NodeScope, Property.Filtered));
             settings.add(Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_ENABLE_REST, true, Property.NodeScope, Property.Filtered));
@@ -949,6 +979,11 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             // Security - Audit - Sink
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_INDEX, Property.NodeScope, Property.Filtered));
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_TYPE, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED, false, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS, 1000, 1, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.byteSizeSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_SIZE, new ByteSizeValue(5, ByteSizeUnit.MB), Property.NodeScope, Property.Filtered));
+            settings.add(Setting.timeSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL, TimeValue.timeValueSeconds(5), Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_CONCURRENT_REQUESTS, 1, 0, Property.NodeScope, Property.Filtered));
     
             // External OpenSearch
             settings.add(Setting.listSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_HTTP_ENDPOINTS, Lists.newArrayList("localhost:9200"), Function.identity(), Property.NodeScope)); //not filtered here
@@ -974,7 +1009,17 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_SSL_VERIFY, true, Property.NodeScope, Property.Filtered));
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_FILEPATH, Property.NodeScope, Property.Filtered));
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_CONTENT, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_SIZE, 0, 0, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_LINGER_MS, 1000L, 1L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_GZIP, false, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_MAX_CONNECTIONS, 4, 1, Property.NodeScope, Property.Filtered));
             
+            // Kafka
+            settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_KAFKA_PARTITION_KEY, "none", Property.NodeScope, Property.Filtered));
+            settings.add(Setting.longSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_KAFKA_LINGER_MS, 5L, 0L, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_KAFKA_BATCH_SIZE, 65536, 0, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_KAFKA_COMPRESSION_TYPE, "none", Property.NodeScope, Property.Filtered));
+
             // Log4j
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_LOG4J_LOGGER_NAME, Property.NodeScope, Property.Filtered));
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_LOG4J_LEVEL, Property.NodeScope, Property.Filtered));
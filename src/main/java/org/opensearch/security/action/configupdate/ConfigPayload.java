@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.io.IOException;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+
+/**
+ * A configuration document as it was written to the security index, together with the sequence number
+ * and primary term it was written with. The JSON source is sent compressed.
+ */
+public class ConfigPayload implements Writeable {
+
+    private final String configType;
+    private final long seqNo;
+    private final long primaryTerm;
+    private final BytesReference compressedSource;
+
+    public ConfigPayload(final String configType, final long seqNo, final long primaryTerm, final BytesReference source) throws IOException {
+        this.configType = configType;
+        this.seqNo = seqNo;
+        this.primaryTerm = primaryTerm;
+        this.compressedSource = CompressorFactory.COMPRESSOR.compress(source);
+    }
+
+    public ConfigPayload(final StreamInput in) throws IOException {
+        this.configType = in.readString();
+        this.seqNo = in.readLong();
+        this.primaryTerm = in.readLong();
+        this.compressedSource = in.readBytesReference();
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeString(configType);
+        out.writeLong(seqNo);
+        out.writeLong(primaryTerm);
+        out.writeBytesReference(compressedSource);
+    }
+
+    public String getConfigType() {
+        return configType;
+    }
+
+    public long getSeqNo() {
+        return seqNo;
+    }
+
+    public long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    /**
+     * @return the uncompressed JSON source of the configuration
+     */
+    public BytesReference getSource() throws IOException {
+        return CompressorFactory.uncompress(compressedSource);
+    }
+}
@@ -31,7 +31,10 @@
 package org.opensearch.security.action.configupdate;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.support.nodes.BaseNodesRequest;
 import org.opensearch.common.io.stream.StreamInput;
@@ -39,11 +42,19 @@ import org.opensearch.common.io.stream.StreamOutput;
 
 public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
 
+    //nodes before this version neither send nor expect payloads, they always reload from the security index
+    static final Version PAYLOADS_VERSION = Version.V_2_0_0;
+
     private String[] configTypes;
+    //the updated configuration documents, nodes apply them instead of reading them from the security index if present
+    private List<ConfigPayload> payloads = Collections.emptyList();
 
     public ConfigUpdateRequest(StreamInput in) throws IOException {
         super(in);
         this.configTypes = in.readStringArray();
+        if (in.getVersion().onOrAfter(PAYLOADS_VERSION)) {
+            this.payloads = in.readList(ConfigPayload::new);
+        }
     }
 
     public ConfigUpdateRequest() {
@@ -59,6 +70,9 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
     public void writeTo(final StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeStringArray(configTypes);
+        if (out.getVersion().onOrAfter(PAYLOADS_VERSION)) {
+            out.writeList(payloads);
+        }
     }
 
     public String[] getConfigTypes() {
@@ -69,6 +83,14 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
         this.configTypes = configTypes;
     }
 
+    public List<ConfigPayload> getPayloads() {
+        return payloads;
+    }
+
+    public void setPayloads(final List<ConfigPayload> payloads) {
+        this.payloads = payloads;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         if (configTypes == null || configTypes.length == 0) {
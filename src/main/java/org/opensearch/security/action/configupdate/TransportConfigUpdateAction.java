@@ -31,10 +31,13 @@
 package org.opensearch.security.action.configupdate;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.nodes.BaseNodeRequest;
@@ -45,6 +48,7 @@ import org.opensearch.common.inject.Provider;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -52,6 +56,8 @@ import org.opensearch.security.auth.BackendRegistry;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
 import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HeaderHelper;
 
 public class TransportConfigUpdateAction
 extends
@@ -108,13 +114,37 @@ TransportNodesAction<ConfigUpdateRequest, ConfigUpdateResponse, TransportConfigU
 
     }
 	
+    @Override
+    protected void doExecute(Task task, ConfigUpdateRequest request, ActionListener<ConfigUpdateResponse> listener) {
+        if (!request.getPayloads().isEmpty() && !isConfigRequest()) {
+            //this action can be granted to regular users, they may trigger a reload but must not supply the configuration
+            logger.warn("Ignoring configuration payloads of a config update request which was not issued by the security plugin");
+            request.setPayloads(Collections.emptyList());
+        }
+        super.doExecute(task, request, listener);
+    }
+
     @Override
     protected ConfigUpdateNodeResponse nodeOperation(final NodeConfigUpdateRequest request) {
-        configurationRepository.reloadConfiguration(CType.fromStringValues((request.request.getConfigTypes())));
-        backendRegistry.get().invalidateCache();
+        final Set<CType> configTypes = CType.fromStringValues(request.request.getConfigTypes());
+        final List<ConfigPayload> payloads = isConfigRequest() ? request.request.getPayloads() : Collections.emptyList();
+        configurationRepository.reloadConfiguration(configTypes, payloads);
+        //the backend registry evicts the users whose internal user entry changed on its own,
+        //roles, role mappings, action groups and tenants only affect the config model which was swapped by the reload
+        if (configTypes.contains(CType.CONFIG)) {
+            backendRegistry.get().invalidateCache();
+        }
         return new ConfigUpdateNodeResponse(clusterService.localNode(), request.request.getConfigTypes(), null);
     }
 
+    /**
+     * Only the REST API of this plugin, which checks for the security admin permissions, sends config updates
+     * with the config request header. Users can not set this header themselves.
+     */
+    private boolean isConfigRequest() {
+        return "true".equals(HeaderHelper.getSafeFromHeader(threadPool.getThreadContext(), ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER));
+    }
+
     @Override
     protected NodeConfigUpdateRequest newNodeRequest(ConfigUpdateRequest request) {
         return new NodeConfigUpdateRequest(request);
@@ -35,9 +35,11 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.common.settings.Settings;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.opensearch.security.DefaultObjectMapper.getOrDefault;
@@ -133,6 +135,7 @@ public class AuditConfig {
         @VisibleForTesting
         public static final Filter DEFAULT = Filter.from(Settings.EMPTY);
         private static Set<String> FIELDS = DefaultObjectMapper.getFields(Filter.class);
+        private static final int MAX_CACHED_REQUESTS = 1000;
 
         private final boolean isRestApiAuditEnabled;
         private final boolean isTransportApiAuditEnabled;
@@ -148,6 +151,11 @@ public class AuditConfig {
         private final WildcardMatcher ignoredAuditRequestsMatcher;
         private final Set<AuditCategory> disabledRestCategories;
         private final Set<AuditCategory> disabledTransportCategories;
+        //decision table compiled from the layer switches and the disabled categories
+        private final EnumSet<AuditCategory> auditedRestCategories;
+        private final EnumSet<AuditCategory> auditedTransportCategories;
+        //result of the request matcher per transport action name and request class
+        private final Map<String, Boolean> requestAuditDisabledCache = new ConcurrentHashMap<>();
 
         @VisibleForTesting
         Filter(final boolean isRestApiAuditEnabled,
@@ -172,6 +180,17 @@ public class AuditConfig {
             this.ignoredAuditRequestsMatcher = WildcardMatcher.from(ignoredAuditRequests);
             this.disabledRestCategories = disabledRestCategories;
             this.disabledTransportCategories = disabledTransportCategories;
+            this.auditedRestCategories = auditedCategories(isRestApiAuditEnabled, disabledRestCategories);
+            this.auditedTransportCategories = auditedCategories(isTransportApiAuditEnabled, disabledTransportCategories);
+        }
+
+        private static EnumSet<AuditCategory> auditedCategories(final boolean layerEnabled, final Set<AuditCategory> disabledCategories) {
+            final EnumSet<AuditCategory> categories = EnumSet.noneOf(AuditCategory.class);
+            if (layerEnabled) {
+                categories.addAll(EnumSet.allOf(AuditCategory.class));
+                categories.removeAll(disabledCategories);
+            }
+            return categories;
         }
 
         @JsonCreator
@@ -325,6 +344,50 @@ public class AuditConfig {
             return ignoredAuditRequestsMatcher.test(action);
         }
 
+        /**
+         * Check if a transport request is excluded from audit. Unlike REST paths, which contain index names and
+         * document ids, action names and request classes are a small vocabulary, so the result is cached per name.
+         * @param actionOrRequestClass transport action name or simple class name of the request
+         * @return true if the transport request is excluded from audit
+         */
+        public boolean isTransportRequestAuditDisabled(String actionOrRequestClass) {
+            if (ignoredAuditRequestsMatcher == WildcardMatcher.NONE || actionOrRequestClass == null) {
+                return ignoredAuditRequestsMatcher.test(actionOrRequestClass);
+            }
+            final Boolean cached = requestAuditDisabledCache.get(actionOrRequestClass);
+            if (cached != null) {
+                return cached;
+            }
+            final boolean disabled = ignoredAuditRequestsMatcher.test(actionOrRequestClass);
+            if (requestAuditDisabledCache.size() < MAX_CACHED_REQUESTS) {
+                requestAuditDisabledCache.put(actionOrRequestClass, disabled);
+            }
+            return disabled;
+        }
+
+        @VisibleForTesting
+        int getCachedRequestCount() {
+            return requestAuditDisabledCache.size();
+        }
+
+        /**
+         * Check if the category is audited on the REST layer
+         * @param category
+         * @return true if REST auditing is enabled and the category is not disabled
+         */
+        public boolean isRestCategoryAudited(AuditCategory category) {
+            return auditedRestCategories.contains(category);
+        }
+
+        /**
+         * Check if the category is audited on the transport layer
+         * @param category
+         * @return true if transport auditing is enabled and the category is not disabled
+         */
+        public boolean isTransportCategoryAudited(AuditCategory category) {
+            return auditedTransportCategories.contains(category);
+        }
+
         /**
          * Disabled categories for REST API auditing
          * @return set of categories
@@ -15,17 +15,44 @@
 
 package org.opensearch.security.auditlog.config;
 
+import java.util.Locale;
+
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.common.settings.Settings;
 
 public class ThreadPoolConfig {
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
     private static final int DEFAULT_THREAD_POOL_MAX_QUEUE_LEN = 100_000;
+    private static final long DEFAULT_BLOCK_TIMEOUT_MS = 100;
+    /** the queue is preallocated, so its length is limited to keep the heap usage of a misconfigured queue reasonable */
+    public static final int MAX_THREAD_POOL_MAX_QUEUE_LEN = 1 << 24;
+
+    /**
+     * What happens with an audit message if the queue is full
+     */
+    public enum OverflowPolicy {
+        /** store the message synchronously in the fallback sink of the sink */
+        FALLBACK,
+        /** drop the message */
+        DROP_NEWEST,
+        /** drop the oldest queued message to make room for the message */
+        DROP_OLDEST,
+        /** wait up to the block timeout for free space, drop the message if there is still none */
+        BLOCK,
+        /** append the message to the spill log of the sink on its spill log thread, it is delivered when the spill log is replayed */
+        SPILL
+    }
 
     private final int threadPoolSize;
     private final int threadPoolMaxQueueLen;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
 
     public ThreadPoolConfig(int threadPoolSize, int threadPoolMaxQueueLen) {
+        this(threadPoolSize, threadPoolMaxQueueLen, OverflowPolicy.FALLBACK, DEFAULT_BLOCK_TIMEOUT_MS);
+    }
+
+    public ThreadPoolConfig(int threadPoolSize, int threadPoolMaxQueueLen, OverflowPolicy overflowPolicy, long blockTimeoutMs) {
         if (threadPoolSize <= 0) {
             throw new IllegalArgumentException("Incorrect thread pool size: " + threadPoolSize + " configured for audit logging.");
         }
@@ -34,8 +61,19 @@ public class ThreadPoolConfig {
             throw new IllegalArgumentException("Incorrect thread pool queue length: " + threadPoolMaxQueueLen + " configured for audit logging.");
         }
 
+        if (threadPoolMaxQueueLen > MAX_THREAD_POOL_MAX_QUEUE_LEN) {
+            throw new IllegalArgumentException("Incorrect thread pool queue length: " + threadPoolMaxQueueLen
+                    + " configured for audit logging. It must not exceed " + MAX_THREAD_POOL_MAX_QUEUE_LEN + ".");
+        }
+
+        if (blockTimeoutMs < 0) {
+            throw new IllegalArgumentException("Incorrect block timeout: " + blockTimeoutMs + " configured for audit logging.");
+        }
+
         this.threadPoolSize = threadPoolSize;
         this.threadPoolMaxQueueLen = threadPoolMaxQueueLen;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
     }
 
     public int getThreadPoolSize() {
@@ -46,10 +84,28 @@ public class ThreadPoolConfig {
         return threadPoolMaxQueueLen;
     }
 
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getBlockTimeoutMs() {
+        return blockTimeoutMs;
+    }
+
     public static ThreadPoolConfig getConfig(Settings settings) {
         int threadPoolSize = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_THREADPOOL_SIZE, DEFAULT_THREAD_POOL_SIZE);
         int threadPoolMaxQueueLen = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN, DEFAULT_THREAD_POOL_MAX_QUEUE_LEN);
+        String overflowPolicy = settings.get(ConfigConstants.SECURITY_AUDIT_THREADPOOL_OVERFLOW_POLICY, OverflowPolicy.FALLBACK.name());
+        long blockTimeoutMs = settings.getAsLong(ConfigConstants.SECURITY_AUDIT_THREADPOOL_BLOCK_TIMEOUT_MS, DEFAULT_BLOCK_TIMEOUT_MS);
+
+        return new ThreadPoolConfig(threadPoolSize, threadPoolMaxQueueLen, parseOverflowPolicy(overflowPolicy), blockTimeoutMs);
+    }
 
-        return new ThreadPoolConfig(threadPoolSize, threadPoolMaxQueueLen);
+    private static OverflowPolicy parseOverflowPolicy(String overflowPolicy) {
+        try {
+            return OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Incorrect overflow policy: " + overflowPolicy + " configured for audit logging.", e);
+        }
     }
 }
@@ -611,7 +611,11 @@ public abstract class AbstractAuditLog implements AuditLog {
         }
 
 
-        if (!auditConfigFilter.isTransportApiAuditEnabled()) {
+        //cheapest check first, most events are excluded by category or layer
+        if (!auditConfigFilter.isTransportCategoryAudited(category)) {
+            if (isTraceEnabled) {
+                log.trace("Skipped audit log message because category {} not enabled", category);
+            }
             return false;
         }
 
@@ -629,7 +633,7 @@ public abstract class AbstractAuditLog implements AuditLog {
             return false;
         }
 
-        if (request != null && (auditConfigFilter.isRequestAuditDisabled(action) || auditConfigFilter.isRequestAuditDisabled(request.getClass().getSimpleName()))) {
+        if (request != null && (auditConfigFilter.isTransportRequestAuditDisabled(action) || auditConfigFilter.isTransportRequestAuditDisabled(request.getClass().getSimpleName()))) {
 
             if (isTraceEnabled) {
                 log.trace("Skipped audit log message because request {} is ignored", action+"#"+request.getClass().getSimpleName());
@@ -638,14 +642,7 @@ public abstract class AbstractAuditLog implements AuditLog {
             return false;
         }
 
-        if (!auditConfigFilter.getDisabledTransportCategories().contains(category)) {
-            return true;
-        } else {
-            if (isTraceEnabled) {
-                log.trace("Skipped audit log message because category {} not enabled", category);
-            }
-            return false;
-        }
+        return true;
 
 
         //skip internal:*
@@ -700,7 +697,11 @@ public abstract class AbstractAuditLog implements AuditLog {
             log.trace("Check for REST category:{}, effectiveUser:{}, request:{}", category, effectiveUser, request==null?null:request.path());
         }
 
-        if (!auditConfigFilter.isRestApiAuditEnabled()) {
+        //cheapest check first, most events are excluded by category or layer
+        if (!auditConfigFilter.isRestCategoryAudited(category)) {
+            if (isTraceEnabled) {
+                log.trace("Skipped audit log message because category {} not enabled", category);
+            }
             return false;
         }
 
@@ -722,14 +723,7 @@ public abstract class AbstractAuditLog implements AuditLog {
             return false;
         }
 
-        if (!auditConfigFilter.getDisabledRestCategories().contains(category)) {
-            return true;
-        } else {
-            if (isTraceEnabled) {
-                log.trace("Skipped audit log message because category {} not enabled", category);
-            }
-            return false;
-        }
+        return true;
 
 
         //check rest audit enabled
@@ -45,6 +45,8 @@ import org.greenrobot.eventbus.Subscribe;
 public final class AuditLogImpl extends AbstractAuditLog {
 
 	private final AuditMessageRouter messageRouter;
+	//null if no category is aggregated
+	private final AuditMessageAggregator messageAggregator;
 	private final Settings settings;
 	private final boolean messageRouterEnabled;
 	private volatile boolean enabled;
@@ -70,6 +72,7 @@ public final class AuditLogImpl extends AbstractAuditLog {
 		this.settings = settings;
 		this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath);
 		this.messageRouterEnabled = this.messageRouter.isEnabled();
+		this.messageAggregator = messageRouterEnabled ? AuditMessageAggregator.create(settings, messageRouter::route) : null;
 
 		log.info("Message routing enabled: {}", this.messageRouterEnabled);
 
@@ -93,7 +96,12 @@ public final class AuditLogImpl extends AbstractAuditLog {
 	}
 
     private Thread addShutdownHook() {
-        Thread shutdownHook = new Thread(() -> messageRouter.close());
+        Thread shutdownHook = new Thread(() -> {
+            if (messageAggregator != null) {
+                messageAggregator.close();
+            }
+            messageRouter.close();
+        });
         Runtime.getRuntime().addShutdownHook(shutdownHook);
         return shutdownHook;
     }
@@ -123,7 +131,7 @@ public final class AuditLogImpl extends AbstractAuditLog {
 
 	@Override
 	protected void save(final AuditMessage msg) {
-		if (enabled) {
+		if (enabled && (messageAggregator == null || !messageAggregator.aggregate(msg))) {
 			messageRouter.route(msg);
 		}
 	}
@@ -15,7 +15,9 @@
 
 package org.opensearch.security.auditlog.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
@@ -37,9 +39,11 @@ import org.apache.http.client.utils.URIBuilder;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
@@ -124,77 +128,113 @@ public final class AuditMessage {
     public static final String COMPLIANCE_OPERATION = "audit_compliance_operation";
     public static final String COMPLIANCE_DOC_VERSION = "audit_compliance_doc_version";
 
+    public static final String AGGREGATION_COUNT = "audit_aggregation_count";
+    public static final String AGGREGATION_FIRST_TIMESTAMP = "audit_aggregation_first_timestamp";
+    public static final String AGGREGATION_LAST_TIMESTAMP = "audit_aggregation_last_timestamp";
+
     private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZ");
+    private static final int MAX_REUSED_BUFFER_SIZE = 256 * 1024;
+    private static final ThreadLocal<ByteArrayOutputStream> ENCODE_BUFFER = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(4096));
     private final Map<String, Object> auditInfo = new HashMap<String, Object>(50);
+    //UTF-8 encoded JSON of this message, computed once for all sinks and reset whenever a field is added
+    private volatile byte[] json;
     private final AuditCategory msgCategory;
 
     public AuditMessage(final AuditCategory msgCategory, final ClusterService clusterService, final Origin origin, final Origin layer) {
         this.msgCategory = Objects.requireNonNull(msgCategory);
         final String currentTime = currentTime();
-        auditInfo.put(FORMAT_VERSION, 4);
-        auditInfo.put(CATEGORY, Objects.requireNonNull(msgCategory));
-        auditInfo.put(UTC_TIMESTAMP, currentTime);
-        auditInfo.put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
-        auditInfo.put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
-        auditInfo.put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
-        auditInfo.put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
-        auditInfo.put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
+        put(FORMAT_VERSION, 4);
+        put(CATEGORY, Objects.requireNonNull(msgCategory));
+        put(UTC_TIMESTAMP, currentTime);
+        put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
+        put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
+        put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
+        put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
+        put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
 
         if(origin != null) {
-            auditInfo.put(ORIGIN, origin);
+            put(ORIGIN, origin);
         }
 
         if(layer != null) {
-            auditInfo.put(REQUEST_LAYER, layer);
+            put(REQUEST_LAYER, layer);
+        }
+    }
+
+    private AuditMessage(final Map<String, Object> auditInfo) {
+        this.msgCategory = AuditCategory.valueOf((String) Objects.requireNonNull(auditInfo.get(CATEGORY)));
+        this.auditInfo.putAll(auditInfo);
+        put(CATEGORY, msgCategory);
+        restoreEnum(ORIGIN, Origin.class);
+        restoreEnum(REQUEST_LAYER, Origin.class);
+        restoreEnum(REST_REQUEST_METHOD, RestRequest.Method.class);
+    }
+
+    /**
+     * Restores a message from the JSON created by {@link #toJsonBytes()}
+     */
+    public static AuditMessage fromJsonBytes(final byte[] json) {
+        return new AuditMessage(XContentHelper.convertToMap(new BytesArray(json), false, XContentType.JSON).v2());
+    }
+
+    private void put(final String key, final Object value) {
+        auditInfo.put(key, value);
+        json = null;
+    }
+
+    private <E extends Enum<E>> void restoreEnum(final String key, final Class<E> enumClass) {
+        final Object value = auditInfo.get(key);
+        if (value instanceof String) {
+            put(key, Enum.valueOf(enumClass, (String) value));
         }
     }
 
     public void addRemoteAddress(TransportAddress remoteAddress) {
         if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            auditInfo.put(REMOTE_ADDRESS, remoteAddress.getAddress());
+            put(REMOTE_ADDRESS, remoteAddress.getAddress());
         }
     }
 
     public void addIsAdminDn(boolean isAdminDn) {
-        auditInfo.put(IS_ADMIN_DN, isAdminDn);
+        put(IS_ADMIN_DN, isAdminDn);
     }
 
     public void addException(Throwable t) {
         if (t != null) {
-            auditInfo.put(EXCEPTION, ExceptionsHelper.stackTrace(t));
+            put(EXCEPTION, ExceptionsHelper.stackTrace(t));
         }
     }
 
     public void addPrivilege(String priv) {
         if (priv != null) {
-            auditInfo.put(PRIVILEGE, priv);
+            put(PRIVILEGE, priv);
         }
     }
 
     public void addInitiatingUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_INITIATING_USER, user);
+            put(REQUEST_INITIATING_USER, user);
         }
     }
 
     public void addEffectiveUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_EFFECTIVE_USER, user);
+            put(REQUEST_EFFECTIVE_USER, user);
         }
     }
 
     public void addPath(String path) {
         if (path != null) {
-            auditInfo.put(REST_REQUEST_PATH, path);
+            put(REST_REQUEST_PATH, path);
         }
     }
 
     public void addComplianceWriteDiffSource(String diff) {
         if (diff != null && !diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_CONTENT, diff);
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, false);
+            put(COMPLIANCE_DIFF_CONTENT, diff);
+            put(COMPLIANCE_DIFF_IS_NOOP, false);
         } else if (diff != null && diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, true);
+            put(COMPLIANCE_DIFF_IS_NOOP, true);
         }
     }
 
@@ -212,22 +252,22 @@ public final class AuditMessage {
     public void addTupleToRequestBody(Tuple<XContentType, BytesReference> xContentTuple) {
         if (xContentTuple != null) {
             try {
-                auditInfo.put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
+                put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
             } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json because of "+e.toString());
+                put(REQUEST_BODY, "ERROR: Unable to convert to json because of "+e.toString());
             }
         }
     }
 
     public void addMapToRequestBody(Map<String, ?> map) {
         if(map != null) {
-            auditInfo.put(REQUEST_BODY, Utils.convertStructuredMapToJson(map));
+            put(REQUEST_BODY, Utils.convertStructuredMapToJson(map));
         }
     }
 
     public void addUnescapedJsonToRequestBody(String source) {
         if (source != null) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(REQUEST_BODY, source);
         }
     }
 
@@ -241,7 +281,7 @@ public final class AuditMessage {
     void addSecurityConfigContentToRequestBody(final String source, final String id) {
         if (source != null) {
             final String redactedContent = redactSecurityConfigContent(source, id);
-            auditInfo.put(REQUEST_BODY, redactedContent);
+            put(REQUEST_BODY, redactedContent);
         }
     }
 
@@ -250,7 +290,7 @@ public final class AuditMessage {
             try {
                 addSecurityConfigContentToRequestBody(XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()), id);
             } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json");
+                put(REQUEST_BODY, "ERROR: Unable to convert to json");
             }
         }
     }
@@ -263,19 +303,19 @@ public final class AuditMessage {
 
     public void addRequestType(String requestType) {
         if (requestType != null) {
-            auditInfo.put(TRANSPORT_REQUEST_TYPE, requestType);
+            put(TRANSPORT_REQUEST_TYPE, requestType);
         }
     }
 
     public void addAction(String action) {
         if (action != null) {
-            auditInfo.put(TRANSPORT_ACTION, action);
+            put(TRANSPORT_ACTION, action);
         }
     }
 
     public void addId(String id) {
         if (id != null) {
-            auditInfo.put(ID, id);
+            put(ID, id);
         }
     }
 
@@ -311,7 +351,7 @@ public final class AuditMessage {
                     //ignore non readable files
                 }
             }
-            auditInfo.put(COMPLIANCE_FILE_INFOS, infos);
+            put(COMPLIANCE_FILE_INFOS, infos);
         }
     }
 
@@ -323,36 +363,36 @@ public final class AuditMessage {
 
     public void addIndices(String[] indices) {
         if (indices != null && indices.length > 0) {
-            auditInfo.put(INDICES, indices);
+            put(INDICES, indices);
         }
 
     }
 
     public void addResolvedIndices(String[] resolvedIndices) {
         if (resolvedIndices != null && resolvedIndices.length > 0) {
-            auditInfo.put(RESOLVED_INDICES, resolvedIndices);
+            put(RESOLVED_INDICES, resolvedIndices);
         }
     }
 
     public void addTaskId(long id) {
-         auditInfo.put(TASK_ID, auditInfo.get(NODE_ID)+":"+id);
+         put(TASK_ID, auditInfo.get(NODE_ID)+":"+id);
     }
 
     public void addShardId(ShardId id) {
         if(id != null) {
-            auditInfo.put(SHARD_ID, id.getId());
+            put(SHARD_ID, id.getId());
         }
    }
 
     public void addTaskParentId(String id) {
         if(id != null) {
-            auditInfo.put(TASK_PARENT_ID, id);
+            put(TASK_PARENT_ID, id);
         }
     }
 
     public void addRestParams(Map<String,String> params) {
         if(params != null && !params.isEmpty()) {
-            auditInfo.put(REST_REQUEST_PARAMS, new HashMap<>(params));
+            put(REST_REQUEST_PARAMS, new HashMap<>(params));
         }
     }
 
@@ -362,13 +402,13 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(REST_REQUEST_HEADERS, headersClone);
+            put(REST_REQUEST_HEADERS, headersClone);
         }
     }
 
     void addRestMethod(final RestRequest.Method method) {
         if (method != null) {
-            auditInfo.put(REST_REQUEST_METHOD, method);
+            put(REST_REQUEST_METHOD, method);
         }
     }
 
@@ -386,12 +426,12 @@ public final class AuditMessage {
                     if (path != null && requestBody != null
                             && SENSITIVE_PATHS.matcher(path).matches()
                             && requestBody.contains(SENSITIVE_KEY)) {
-                        auditInfo.put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
+                        put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
                     } else {
-                        auditInfo.put(REQUEST_BODY, requestBody);
+                        put(REQUEST_BODY, requestBody);
                     }
                 } catch (IOException e) {
-                    auditInfo.put(REQUEST_BODY, "ERROR: Unable to generate request body");
+                    put(REQUEST_BODY, "ERROR: Unable to generate request body");
                 }
             }
         }
@@ -403,24 +443,34 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(TRANSPORT_REQUEST_HEADERS, headersClone);
+            put(TRANSPORT_REQUEST_HEADERS, headersClone);
         }
     }
 
     public void addComplianceOperation(Operation op) {
         if(op != null) {
-            auditInfo.put(COMPLIANCE_OPERATION, op);
+            put(COMPLIANCE_OPERATION, op);
         }
     }
 
+    void addAggregation(long count, String firstTimestamp, String lastTimestamp) {
+        put(AGGREGATION_COUNT, count);
+        put(AGGREGATION_FIRST_TIMESTAMP, firstTimestamp);
+        put(AGGREGATION_LAST_TIMESTAMP, lastTimestamp);
+    }
+
     public void addComplianceDocVersion(long version) {
-        auditInfo.put(COMPLIANCE_DOC_VERSION, version);
+        put(COMPLIANCE_DOC_VERSION, version);
     }
 
     public Map<String, Object> getAsMap() {
       return new HashMap<>(this.auditInfo);
     }
 
+    String getTimestamp() {
+        return (String) this.auditInfo.get(UTC_TIMESTAMP);
+    }
+
     public String getInitiatingUser() {
         return (String) this.auditInfo.get(REQUEST_INITIATING_USER);
     }
@@ -447,11 +497,7 @@ public final class AuditMessage {
 
 	@Override
 	public String toString() {
-		try {
-			return Strings.toString(JsonXContent.contentBuilder().map(getAsMap()));
-		} catch (final IOException e) {
-		    throw ExceptionsHelper.convertToOpenSearchException(e);
-		}
+		return new String(toJsonBytes(), StandardCharsets.UTF_8);
 	}
 
     public String toPrettyString() {
@@ -474,6 +520,38 @@ public final class AuditMessage {
 		return this.toString();
 	}
 
+	/**
+	 * Returns the UTF-8 encoded JSON of this message. The message is encoded once into a per thread buffer,
+	 * all sinks the message is routed to share the result which therefore must not be modified.
+	 */
+	public byte[] toJsonBytes() {
+		byte[] json = this.json;
+		if (json == null) {
+			json = encodeJson();
+			this.json = json;
+		}
+		return json;
+	}
+
+	private byte[] encodeJson() {
+		final ByteArrayOutputStream buffer = ENCODE_BUFFER.get();
+		try {
+			try (XContentBuilder builder = new XContentBuilder(JsonXContent.jsonXContent, buffer)) {
+				builder.map(auditInfo);
+			}
+			return buffer.toByteArray();
+		} catch (final IOException e) {
+			throw ExceptionsHelper.convertToOpenSearchException(e);
+		} finally {
+			if (buffer.size() > MAX_REUSED_BUFFER_SIZE) {
+				//do not keep the buffer of an unusually large message
+				ENCODE_BUFFER.remove();
+			} else {
+				buffer.reset();
+			}
+		}
+	}
+
 	public String toUrlParameters() {
 		URIBuilder builder = new URIBuilder();
 		for (Entry<String, Object> entry : getAsMap().entrySet()) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.impl;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.google.common.collect.ImmutableSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.Settings;
+
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Coalesces identical audit messages of the configured categories which occur within one window.
+ *
+ * Messages are identical if all their fields except the timestamp and the task ids are equal, this includes
+ * the request body, the exception and the compliance fields, so no information is lost by the aggregation.
+ * The first message of a window is held back and emitted when the window ends. If further identical messages
+ * occurred it carries their count and the first and last timestamp. The pending messages are kept in a
+ * {@link ConcurrentHashMap}, so request threads only contend if they log messages which hash to the same bin.
+ */
+final class AuditMessageAggregator implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(AuditMessageAggregator.class);
+
+    //these fields differ for every request
+    private static final Set<String> EXCLUDED_FIELDS = ImmutableSet.of(
+            AuditMessage.UTC_TIMESTAMP,
+            AuditMessage.TASK_ID,
+            AuditMessage.TASK_PARENT_ID
+    );
+
+    private final Set<AuditCategory> categories;
+    private final int maxPending;
+    private final Consumer<AuditMessage> downstream;
+    private final Map<Map<String, Object>, Aggregate> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    AuditMessageAggregator(final Set<AuditCategory> categories, final long windowMs, final int maxPending, final Consumer<AuditMessage> downstream) {
+        this.categories = categories;
+        this.maxPending = maxPending;
+        this.downstream = downstream;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "opensearch-security-audit-aggregation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return null if aggregation is not enabled for any category
+     */
+    static AuditMessageAggregator create(final Settings settings, final Consumer<AuditMessage> downstream) {
+        final Set<AuditCategory> categories = AuditCategory.parse(settings.getAsList(ConfigConstants.SECURITY_AUDIT_AGGREGATION_CATEGORIES));
+        if (categories.isEmpty()) {
+            return null;
+        }
+
+        final long windowMs = settings.getAsLong(ConfigConstants.SECURITY_AUDIT_AGGREGATION_WINDOW_MS, 1000L);
+        final int maxPending = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_AGGREGATION_MAX_PENDING, 10000);
+        log.info("Audit messages of {} are aggregated within windows of {} ms", categories, windowMs);
+        return new AuditMessageAggregator(categories, windowMs, maxPending, downstream);
+    }
+
+    /**
+     * @return false if the message is not aggregated and must be passed on directly
+     */
+    boolean aggregate(final AuditMessage msg) {
+        if (!categories.contains(msg.getCategory())) {
+            return false;
+        }
+
+        final Map<String, Object> key = aggregationKey(msg.getAsMap());
+
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            return false;
+        }
+
+        pending.compute(key, (k, aggregate) -> {
+            if (aggregate == null) {
+                return new Aggregate(msg);
+            }
+            aggregate.count++;
+            aggregate.lastTimestamp = msg.getTimestamp();
+            return aggregate;
+        });
+        return true;
+    }
+
+    static Map<String, Object> aggregationKey(final Map<String, Object> fields) {
+        final Map<String, Object> key = new HashMap<>(fields.size());
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            if (EXCLUDED_FIELDS.contains(field.getKey())) {
+                continue;
+            }
+            final Object value = field.getValue();
+            //the indices and types are arrays which do not implement equals
+            key.put(field.getKey(), value instanceof Object[] ? Arrays.asList((Object[]) value) : value);
+        }
+        return key;
+    }
+
+    void flush() {
+        for (Map<String, Object> key : pending.keySet()) {
+            final Aggregate aggregate = pending.remove(key);
+            if (aggregate == null) {
+                continue;
+            }
+
+            if (aggregate.count > 1) {
+                aggregate.first.addAggregation(aggregate.count, aggregate.first.getTimestamp(), aggregate.lastTimestamp);
+            }
+
+            try {
+                downstream.accept(aggregate.first);
+            } catch (Exception e) {
+                log.error("Unable to store aggregated audit message {}", aggregate.first, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    //only accessed within the compute function of the pending map and after the aggregate was removed from it
+    private static final class Aggregate {
+        private final AuditMessage first;
+        private long count = 1;
+        private String lastTimestamp;
+
+        Aggregate(final AuditMessage first) {
+            this.first = first;
+            this.lastTimestamp = first.getTimestamp();
+        }
+    }
+}
@@ -15,26 +15,63 @@
 
 package org.opensearch.security.auditlog.routing;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
+import org.opensearch.security.auditlog.config.ThreadPoolConfig.OverflowPolicy;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.auditlog.sink.AuditLogSink;
 
+/**
+ * Stores audit messages asynchronously.
+ *
+ * Messages are put into a preallocated ring buffer which is drained in batches by threadPoolSize worker threads.
+ * If the buffer is full, the configured {@link OverflowPolicy} decides what happens with the message.
+ */
 public class AsyncStoragePool {
 	private static final Logger log = LogManager.getLogger(AsyncStoragePool.class);
-	private final ExecutorService pool;
+	private static final int MAX_BATCH_SIZE = 64;
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+	private static final long DROP_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
 	private final ThreadPoolConfig threadPoolConfig;
+	private final RingBuffer<Entry> buffer;
+	private final List<Thread> workers;
+	private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+	private volatile boolean closed;
+
+	private final LongAdder droppedMessages = new LongAdder();
+	private final LongAdder storedMessages = new LongAdder();
+	private final LongAdder totalLatencyNanos = new LongAdder();
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+	private final AtomicLong lastDropLogNanos = new AtomicLong(System.nanoTime() - DROP_LOG_INTERVAL_NANOS);
 
 	public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig) {
 		this.threadPoolConfig = threadPoolConfig;
-		this.pool = createExecutor(threadPoolConfig);
+		if (log.isDebugEnabled()) {
+			log.debug("Create new storage pool with threadPoolSize: {}, maxQueueLen: {} and overflow policy: {}",
+					threadPoolConfig.getThreadPoolSize(),
+					threadPoolConfig.getThreadPoolMaxQueueLen(),
+					threadPoolConfig.getOverflowPolicy());
+		}
+		this.buffer = new RingBuffer<>(threadPoolConfig.getThreadPoolMaxQueueLen());
+		this.workers = new ArrayList<>(threadPoolConfig.getThreadPoolSize());
+		for (int i = 0; i < threadPoolConfig.getThreadPoolSize(); i++) {
+			final Thread worker = new Thread(this::drain, "opensearch-security-audit-" + i);
+			worker.setDaemon(true);
+			workers.add(worker);
+			worker.start();
+		}
 	}
 
 	public ThreadPoolConfig getConfig() {
@@ -42,54 +79,194 @@ public class AsyncStoragePool {
 	}
 
 	public void submit(AuditMessage message, AuditLogSink sink) {
-		try {
-			pool.submit(() -> {
-				sink.store(message);
-				if (log.isTraceEnabled()) {
-					log.trace("stored on delegate {} asynchronously", sink.getClass().getSimpleName());
+		if (closed) {
+			log.error("Could not submit audit message {} for delegate '{}' because the storage pool is closed", message, sink.getClass().getSimpleName());
+			storeInFallback(message, sink);
+			return;
+		}
+
+		final Entry entry = new Entry(message, sink);
+
+		if (!buffer.offer(entry) && !handleOverflow(entry)) {
+			return;
+		}
+
+		final Thread idleWorker = idleWorkers.poll();
+		if (idleWorker != null) {
+			LockSupport.unpark(idleWorker);
+		}
+	}
+
+	/**
+	 * @return true if the entry was queued
+	 */
+	private boolean handleOverflow(final Entry entry) {
+		switch (threadPoolConfig.getOverflowPolicy()) {
+		case DROP_NEWEST:
+			dropped(entry);
+			return false;
+		case DROP_OLDEST:
+			while (!buffer.offer(entry)) {
+				final Entry oldest = buffer.poll();
+				if (oldest != null) {
+					dropped(oldest);
+				}
+			}
+			return true;
+		case BLOCK:
+			final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(threadPoolConfig.getBlockTimeoutMs());
+			while (!buffer.offer(entry)) {
+				if (System.nanoTime() - deadline >= 0 || closed) {
+					dropped(entry);
+					return false;
 				}
-			});
-		} catch (Exception ex) {
-			log.error("Could not submit audit message {} to thread pool for delegate '{}' due to '{}'", message, sink.getClass().getSimpleName(), ex.getMessage());
-			if (sink.getFallbackSink() != null) {
-				sink.getFallbackSink().store(message);
+				LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
 			}
+			return true;
+		case SPILL:
+			entry.sink.spill(entry.message);
+			return false;
+		default:
+			log.error("Could not submit audit message {} for delegate '{}' because the queue is full", entry.message, entry.sink.getClass().getSimpleName());
+			storeInFallback(entry.message, entry.sink);
+			return false;
 		}
 	}
 
-	private static ThreadPoolExecutor createExecutor(final ThreadPoolConfig config) {
-		if (log.isDebugEnabled()) {
-			log.debug("Create new executor with threadPoolSize: {} and maxQueueLen: {}",
-					config.getThreadPoolSize(),
-					config.getThreadPoolMaxQueueLen());
+	private void dropped(final Entry entry) {
+		droppedMessages.increment();
+		final long now = System.nanoTime();
+		final long lastLog = lastDropLogNanos.get();
+		if (now - lastLog >= DROP_LOG_INTERVAL_NANOS && lastDropLogNanos.compareAndSet(lastLog, now)) {
+			log.error("Audit queue is full, dropped audit message for delegate '{}' ({} messages dropped so far)",
+					entry.sink.getClass().getSimpleName(), droppedMessages.sum());
 		}
-		return new ThreadPoolExecutor(
-				config.getThreadPoolSize(),
-				config.getThreadPoolSize(),
-				0L,
-				TimeUnit.MILLISECONDS,
-				new LinkedBlockingQueue<>(config.getThreadPoolMaxQueueLen()));
 	}
 
-	public void close() {
+	private static void storeInFallback(final AuditMessage message, final AuditLogSink sink) {
+		if (sink.getFallbackSink() != null) {
+			sink.getFallbackSink().store(message);
+		}
+	}
 
-		if (pool != null) {
-			pool.shutdown(); // Disable new tasks from being submitted
+	private void drain() {
+		final Entry[] batch = new Entry[MAX_BATCH_SIZE];
 
-			try {
-				// Wait a while for existing tasks to terminate
-				if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
-					pool.shutdownNow(); // Cancel currently executing tasks
-					// Wait a while for tasks to respond to being cancelled
-					if (!pool.awaitTermination(60, TimeUnit.SECONDS))
-						log.error("Pool did not terminate");
+		while (true) {
+			int size = 0;
+			for (Entry entry = buffer.poll(); entry != null; entry = size < MAX_BATCH_SIZE ? buffer.poll() : null) {
+				batch[size++] = entry;
+			}
+
+			if (size == 0) {
+				if (closed) {
+					return;
+				}
+				idleWorkers.add(Thread.currentThread());
+				// re-check to not miss a message which was submitted before we registered as idle
+				if (buffer.isEmpty() && !closed) {
+					LockSupport.parkNanos(this, IDLE_PARK_NANOS);
 				}
-			} catch (InterruptedException ie) {
-				// (Re-)Cancel if current thread also interrupted
-				pool.shutdownNow();
-				// Preserve interrupt status
-				Thread.currentThread().interrupt();
+				idleWorkers.remove(Thread.currentThread());
+				continue;
+			}
+
+			for (int i = 0; i < size; i++) {
+				store(batch[i]);
+				batch[i] = null;
 			}
 		}
 	}
+
+	private void store(final Entry entry) {
+		try {
+			entry.sink.store(entry.message);
+			if (log.isTraceEnabled()) {
+				log.trace("stored on delegate {} asynchronously", entry.sink.getClass().getSimpleName());
+			}
+		} catch (Exception e) {
+			log.error("Unable to store audit message on delegate '{}'", entry.sink.getClass().getSimpleName(), e);
+		}
+
+		final long latency = System.nanoTime() - entry.submittedNanos;
+		storedMessages.increment();
+		totalLatencyNanos.add(latency);
+		maxLatencyNanos.accumulateAndGet(latency, Math::max);
+	}
+
+	/**
+	 * @return number of messages waiting to be stored
+	 */
+	public int getQueueDepth() {
+		return buffer.size();
+	}
+
+	/**
+	 * @return number of messages dropped because the queue was full
+	 */
+	public long getDroppedCount() {
+		return droppedMessages.sum();
+	}
+
+	/**
+	 * @return number of messages stored by the worker threads
+	 */
+	public long getStoredCount() {
+		return storedMessages.sum();
+	}
+
+	/**
+	 * @return average time between submitting and storing a message in milliseconds
+	 */
+	public double getAverageLatencyMillis() {
+		final long stored = storedMessages.sum();
+		return stored == 0 ? 0 : totalLatencyNanos.sum() / (stored * 1_000_000d);
+	}
+
+	/**
+	 * @return maximum time between submitting and storing a message in milliseconds
+	 */
+	public long getMaxLatencyMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+	}
+
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		workers.forEach(LockSupport::unpark);
+
+		// Wait a while for the queued messages to be stored
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+		try {
+			for (Thread worker : workers) {
+				final long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remainingMs > 0) {
+					worker.join(remainingMs);
+				}
+			}
+		} catch (InterruptedException ie) {
+			// Preserve interrupt status
+			Thread.currentThread().interrupt();
+		}
+
+		if (workers.stream().anyMatch(Thread::isAlive)) {
+			log.error("Pool did not terminate, {} audit messages were not stored", buffer.size());
+		}
+
+		log.info("Audit storage pool closed: {} messages stored, {} dropped, average latency {} ms, max latency {} ms",
+				getStoredCount(), getDroppedCount(), Math.round(getAverageLatencyMillis() * 100) / 100d, getMaxLatencyMillis());
+	}
+
+	private static final class Entry {
+		final AuditMessage message;
+		final AuditLogSink sink;
+		final long submittedNanos = System.nanoTime();
+
+		Entry(final AuditMessage message, final AuditLogSink sink) {
+			this.message = message;
+			this.sink = sink;
+		}
+	}
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, preallocated multi-producer multi-consumer queue which does not take any locks.
+ *
+ * Every slot carries a sequence number which tells producers and consumers whether the slot is free
+ * for the current lap, so offer and poll only need one CAS on the enqueue or dequeue position.
+ * The slots are rounded up to the next power of two, but are at least two because with a single slot
+ * a published element and a free slot of the next lap would have the same sequence number. Producers
+ * never fill more slots than the capacity the buffer was created with.
+ */
+final class RingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    RingBuffer(final int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        final int slotCount = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.capacity = capacity;
+        this.mask = slotCount - 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.sequences = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return false if the buffer is full
+     */
+    boolean offer(final E element) {
+        while (true) {
+            final long position = enqueuePosition.get();
+            final int index = (int) (position & mask);
+            final long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                //the dequeue position is read after the enqueue position, so the CAS can only succeed if there is room
+                if (position - dequeuePosition.get() >= capacity) {
+                    return false;
+                }
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return the oldest element or null if the buffer is empty
+     */
+    E poll() {
+        while (true) {
+            final long position = dequeuePosition.get();
+            final int index = (int) (position & mask);
+            final long diff = sequences.get(index) - (position + 1);
+
+            if (diff == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    final E element = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    int size() {
+        return (int) Math.max(0, enqueuePosition.get() - dequeuePosition.get());
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -16,22 +16,46 @@
 package org.opensearch.security.auditlog.sink;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.env.Environment;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.format.DateTimeFormatter;
 
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.support.ConfigConstants;
-import com.google.common.util.concurrent.Uninterruptibles;
 
 public abstract class AuditLogSink {
 
+    //retries beyond this limit are not scheduled, the messages are handled as undelivered right away
+    private static final int MAX_PENDING_RETRIES = 10000;
+    //messages beyond this limit are not queued for the spill log, they are stored in the fallback sink right away
+    private static final int MAX_PENDING_SPILLS = 10000;
+
     protected final Logger log = LogManager.getLogger(this.getClass());
     protected final Settings settings;
     protected final String settingsPrefix;
@@ -39,6 +63,22 @@ public abstract class AuditLogSink {
     protected final AuditLogSink fallbackSink;
     private final int retryCount;
     private final long delayMs;
+    private final long maxDelayMs;
+    private final long replayIntervalMs;
+    //null if retries are disabled or the background tasks are not started
+    private volatile ScheduledExecutorService retryScheduler;
+    private final Set<Retry> pendingRetries = ConcurrentHashMap.newKeySet();
+    private final SinkCircuitBreaker circuitBreaker;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failedDeliveries = new LongAdder();
+    private final LongAdder skippedDeliveries = new LongAdder();
+    //messages which could not be delivered, null if spilling is disabled or this is the fallback sink
+    private volatile AuditSpillLog spillLog;
+    //appends to and replays the spill log
+    private volatile ScheduledExecutorService spillExecutor;
+    private volatile boolean spilled;
+    private final AtomicBoolean replayRequested = new AtomicBoolean();
+    private final AtomicInteger pendingSpills = new AtomicInteger();
 
     protected AuditLogSink(String name, Settings settings, String settingsPrefix, AuditLogSink fallbackSink) {
         this.name = name.toLowerCase();
@@ -48,6 +88,30 @@ public abstract class AuditLogSink {
 
         retryCount = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_RETRY_COUNT, 0);
         delayMs = settings.getAsLong(ConfigConstants.SECURITY_AUDIT_RETRY_DELAY_MS, 1000L);
+        maxDelayMs = Math.max(delayMs, settings.getAsLong(ConfigConstants.SECURITY_AUDIT_RETRY_MAX_DELAY_MS, 30000L));
+        replayIntervalMs = settings.getAsLong(ConfigConstants.SECURITY_AUDIT_SPILL_REPLAY_INTERVAL_MS, 5000L);
+        circuitBreaker = new SinkCircuitBreaker(settings.getAsInt(ConfigConstants.SECURITY_AUDIT_CIRCUIT_BREAKER_FAILURE_THRESHOLD, 10),
+                settings.getAsLong(ConfigConstants.SECURITY_AUDIT_CIRCUIT_BREAKER_OPEN_MS, 5000L));
+    }
+
+    /**
+     * Starts the retry scheduler and opens the spill log. The background tasks call {@link #doStore(AuditMessage)},
+     * so they are started by the {@link SinkProvider} once the sink is fully constructed.
+     */
+    final void startBackgroundTasks() {
+        if (retryCount > 0) {
+            retryScheduler = newDaemonScheduler("opensearch-security-audit-retry-" + this.name);
+        }
+
+        if (fallbackSink != null && settings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_SPILL_ENABLED, false)) {
+            final AuditSpillLog spillLog = openSpillLog();
+            if (spillLog != null) {
+                spilled = !spillLog.isEmpty();
+                this.spillLog = spillLog;
+                spillExecutor = newDaemonScheduler("opensearch-security-audit-spill-" + this.name);
+                spillExecutor.scheduleWithFixedDelay(this::replaySpillLog, replayIntervalMs, replayIntervalMs, TimeUnit.MILLISECONDS);
+            }
+        }
     }
 
     public boolean isHandlingBackpressure() {
@@ -63,37 +127,278 @@ public abstract class AuditLogSink {
     }
 
     public final void store(AuditMessage msg) {
-		if (!doStoreWithRetry(msg) && !fallbackSink.doStoreWithRetry(msg)) {
-			System.err.println(msg.toPrettyString());
-		}
+        attemptStore(msg, 0);
+    }
+
+    /**
+     * Attempts to store the message once. Failed attempts are rescheduled with exponential backoff
+     * on the retry scheduler, so the calling thread is never blocked by a failing destination.
+     */
+    private void attemptStore(AuditMessage msg, int attempt) {
+        if (!circuitBreaker.allowRequest()) {
+            skippedDeliveries.increment();
+            storeUndelivered(msg);
+            return;
+        }
+
+        if (doStore(msg)) {
+            circuitBreaker.onSuccess();
+            if (spilled) {
+                requestReplay();
+            }
+            return;
+        }
+
+        if (circuitBreaker.onFailure()) {
+            log.warn("Audit sink {} failed {} consecutive times, skipping it for now", getName(), circuitBreaker.getFailureThreshold());
+        }
+
+        if (attempt >= retryCount || !scheduleRetry(msg, attempt + 1)) {
+            failedDeliveries.increment();
+            storeUndelivered(msg);
+        }
+    }
+
+    private boolean scheduleRetry(AuditMessage msg, int attempt) {
+        final ScheduledExecutorService retryScheduler = this.retryScheduler;
+        if (retryScheduler == null || pendingRetries.size() >= MAX_PENDING_RETRIES) {
+            return false;
+        }
+
+        //exponential backoff with jitter, the delay is randomly chosen between half and the full backoff
+        final long backoffMs = Math.min(maxDelayMs, delayMs << Math.min(attempt - 1, 30));
+        final long delay = backoffMs / 2 + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1);
+        final Retry retry = new Retry(msg, attempt);
+
+        pendingRetries.add(retry);
+        try {
+            retryScheduler.schedule(retry, delay, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            //the scheduler is shut down
+            pendingRetries.remove(retry);
+            return false;
+        }
+        retries.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Retry attempt {}/{} for {} ({}) in {} ms", attempt, retryCount, this.getName(), this.getClass(), delay);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of retries which were scheduled by this sink
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the number of messages which could not be stored by this sink after all retries
+     */
+    public long getFailedCount() {
+        return failedDeliveries.sum();
     }
 
-    private boolean doStoreWithRetry(AuditMessage msg) {
-        //retryCount of 0 means no retry (which is: try exactly once) - delayMs is ignored
-        //retryCount of 1 means: try and if this fails wait delayMs and try once again
+    /**
+     * @return the number of messages which were not attempted to be stored because the circuit breaker was open
+     */
+    public long getSkippedCount() {
+        return skippedDeliveries.sum();
+    }
 
-        if(doStore(msg)) {
-            return true;
+    /**
+     * Stores a message which could not be delivered by this sink. The message is appended to the spill log
+     * and delivered again once the destination recovered, after the messages which did not fail. If spilling
+     * is disabled or the spill log is full the message is stored in the fallback sink.
+     */
+    public final void storeUndelivered(AuditMessage msg) {
+        final AuditSpillLog spillLog = this.spillLog;
+        if (spillLog != null && appendToSpillLog(spillLog, msg)) {
+            return;
         }
+        storeInFallback(msg);
+    }
 
-        final boolean isDebugEnabled = log.isDebugEnabled();
-        for(int i=0; i<retryCount; i++) {
-            if (isDebugEnabled) {
-                log.debug("Retry attempt {}/{} for {} ({})", i+1, retryCount, this.getName(), this.getClass());
+    /**
+     * Hands a message to the spill log without writing to disk on the calling thread. The message is appended by
+     * the spill log thread, if spilling is disabled or too many messages wait to be appended it is stored in the
+     * fallback sink.
+     */
+    public final void spill(AuditMessage msg) {
+        final ScheduledExecutorService spillExecutor = this.spillExecutor;
+        if (spillExecutor != null) {
+            if (pendingSpills.incrementAndGet() <= MAX_PENDING_SPILLS) {
+                try {
+                    spillExecutor.execute(() -> {
+                        pendingSpills.decrementAndGet();
+                        storeUndelivered(msg);
+                    });
+                    return;
+                } catch (RejectedExecutionException e) {
+                    //the executor is shut down
+                }
             }
-            Uninterruptibles.sleepUninterruptibly(delayMs, TimeUnit.MILLISECONDS);
-            if(!doStore(msg)) {
-                continue;
-            } else {
+            pendingSpills.decrementAndGet();
+        }
+        storeInFallback(msg);
+    }
+
+    private void storeInFallback(AuditMessage msg) {
+        if (fallbackSink != null) {
+            fallbackSink.store(msg);
+        } else {
+            System.err.println(msg.toPrettyString());
+        }
+    }
+
+    private boolean appendToSpillLog(AuditSpillLog spillLog, AuditMessage msg) {
+        try {
+            if (spillLog.append(msg.toJsonBytes())) {
+                spilled = true;
                 return true;
             }
+            log.error("Audit spill log of {} is full", getName());
+        } catch (Exception e) {
+            log.error("Unable to append audit message to the spill log of {}", getName(), e);
         }
-
         return false;
     }
 
+    private AuditSpillLog openSpillLog() {
+        final String configuredPath = settings.get(ConfigConstants.SECURITY_AUDIT_SPILL_PATH);
+        final List<String> dataPaths = Environment.PATH_DATA_SETTING.get(settings);
+        if (configuredPath == null && dataPaths.isEmpty()) {
+            log.error("Audit spill log of {} is disabled because neither {} nor path.data is set", getName(), ConfigConstants.SECURITY_AUDIT_SPILL_PATH);
+            return null;
+        }
+
+        final Path directory = (configuredPath != null ? Paths.get(configuredPath) : Paths.get(dataPaths.get(0), "security_audit_spill")).resolve(getName());
+        final int segmentSize = (int) settings.getAsBytesSize(ConfigConstants.SECURITY_AUDIT_SPILL_SEGMENT_SIZE, new ByteSizeValue(16, ByteSizeUnit.MB)).getBytes();
+        final long maxSize = settings.getAsBytesSize(ConfigConstants.SECURITY_AUDIT_SPILL_MAX_SIZE, new ByteSizeValue(1, ByteSizeUnit.GB)).getBytes();
+
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            final AuditSpillLog spillLog = AccessController.doPrivileged((PrivilegedExceptionAction<AuditSpillLog>) () -> new AuditSpillLog(directory, segmentSize, maxSize));
+            log.info("Audit messages which can not be delivered by {} are spilled to {}", getName(), directory);
+            return spillLog;
+        } catch (PrivilegedActionException e) {
+            log.error("Unable to open audit spill log {}, spilling is disabled for {}", directory, getName(), e.getException());
+            return null;
+        }
+    }
+
+    /**
+     * Replays the spill log right away instead of waiting for the next interval, the destination just accepted a message.
+     */
+    private void requestReplay() {
+        final ScheduledExecutorService spillExecutor = this.spillExecutor;
+        if (spillExecutor != null && replayRequested.compareAndSet(false, true)) {
+            try {
+                spillExecutor.execute(this::replaySpillLog);
+            } catch (RejectedExecutionException e) {
+                //the executor is shut down
+                replayRequested.set(false);
+            }
+        }
+    }
+
+    private void replaySpillLog() {
+        replayRequested.set(false);
+        try {
+            byte[] record;
+            while ((record = spillLog.peek()) != null) {
+                final AuditMessage msg;
+                try {
+                    msg = AuditMessage.fromJsonBytes(record);
+                } catch (Exception e) {
+                    log.error("Discarding unreadable record of the audit spill log of {}", getName(), e);
+                    spillLog.remove();
+                    continue;
+                }
+
+                if (!doStore(msg)) {
+                    //try again with the next replay
+                    break;
+                }
+                circuitBreaker.onSuccess();
+                spillLog.remove();
+            }
+            if (record == null) {
+                spilled = false;
+            }
+            spillLog.force();
+        } catch (Exception e) {
+            log.error("Unable to replay the audit spill log of {}", getName(), e);
+        }
+    }
+
+    /**
+     * Stops the background tasks of this sink. Messages which wait for a retry are handled as undelivered,
+     * messages which are still spilled are replayed after the next start.
+     */
+    final void stopBackgroundTasks() {
+        final ScheduledExecutorService retryScheduler = this.retryScheduler;
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+            try {
+                retryScheduler.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (Retry retry : pendingRetries) {
+                if (pendingRetries.remove(retry)) {
+                    storeUndelivered(retry.msg);
+                }
+            }
+        }
+
+        final AuditSpillLog spillLog = this.spillLog;
+        if (spillLog != null) {
+            //messages which wait to be appended are still written to the spill log
+            spillExecutor.shutdown();
+            try {
+                spillExecutor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                spillLog.close();
+                return null;
+            });
+        }
+    }
+
+    private static ScheduledExecutorService newDaemonScheduler(final String threadName) {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     protected abstract boolean doStore(AuditMessage msg);
 
+    private final class Retry implements Runnable {
+        private final AuditMessage msg;
+        private final int attempt;
+
+        Retry(final AuditMessage msg, final int attempt) {
+            this.msg = msg;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public void run() {
+            if (pendingRetries.remove(this)) {
+                attemptStore(msg, attempt);
+            }
+        }
+    }
+
     public void close() throws IOException {
     	// to be implemented by subclasses
     }
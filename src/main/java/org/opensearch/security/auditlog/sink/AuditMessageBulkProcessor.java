@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Batches the audit messages of an OpenSearch sink into bulk requests.
+ *
+ * Bulk requests are flushed by count, size or interval and executed asynchronously,
+ * at most bulk.concurrent_requests of them are in flight at the same time. Adding a message blocks while this limit is reached.
+ * Messages which could not be indexed are handed back to the owning sink as undelivered.
+ */
+final class AuditMessageBulkProcessor implements Closeable {
+
+    private final AuditLogSink sink;
+    private final BulkProcessor bulkProcessor;
+    //messages which are queued in the bulk processor, needed to route failed bulk items to the fallback sink
+    private final Map<DocWriteRequest<?>, AuditMessage> pendingMessages = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    AuditMessageBulkProcessor(final AuditLogSink sink, final Settings sinkSettings,
+            final BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkConsumer) {
+        this.sink = sink;
+        this.bulkProcessor = BulkProcessor.builder(bulkConsumer, new Listener())
+                .setBulkActions(sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS, 1000))
+                .setBulkSize(sinkSettings.getAsBytesSize(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_SIZE, new ByteSizeValue(5, ByteSizeUnit.MB)))
+                .setFlushInterval(sinkSettings.getAsTime(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL, TimeValue.timeValueSeconds(5)))
+                .setConcurrentRequests(sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_CONCURRENT_REQUESTS, 1))
+                .build();
+    }
+
+    static boolean isEnabled(final Settings sinkSettings) {
+        return sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED, false);
+    }
+
+    void add(final IndexRequest indexRequest, final AuditMessage msg) {
+        pendingMessages.put(indexRequest, msg);
+        try {
+            bulkProcessor.add(indexRequest);
+        } catch (RuntimeException e) {
+            pendingMessages.remove(indexRequest);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (!bulkProcessor.awaitClose(1, TimeUnit.MINUTES)) {
+                sink.log.warn("Not all audit messages could be flushed by {} within one minute", sink.getName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class Listener implements BulkProcessor.Listener {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request) {
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+            final List<DocWriteRequest<?>> requests = request.requests();
+            final BulkItemResponse[] items = response.getItems();
+
+            for (int i = 0; i < requests.size(); i++) {
+                final AuditMessage msg = pendingMessages.remove(requests.get(i));
+                if (msg != null && items[i].isFailed()) {
+                    sink.log.error("Unable to index audit log {} due to {}", msg, items[i].getFailureMessage());
+                    sink.storeUndelivered(msg);
+                }
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+            sink.log.error("Unable to index {} audit logs due to", request.numberOfActions(), failure);
+
+            for (DocWriteRequest<?> docWriteRequest : request.requests()) {
+                final AuditMessage msg = pendingMessages.remove(docWriteRequest);
+                if (msg != null) {
+                    sink.storeUndelivered(msg);
+                }
+            }
+        }
+    }
+}
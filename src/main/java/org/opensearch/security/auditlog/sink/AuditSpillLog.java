@@ -0,0 +1,254 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Append-only log of audit messages which could not be delivered by a sink.
+ *
+ * The log consists of memory-mapped segment files of a fixed size. Every record is written as
+ * length, CRC32 checksum and payload. Records are consumed in the order they were appended,
+ * a consumed record is marked by negating its length so the read position survives a restart.
+ * Segments are deleted once all of their records are consumed. Records which fail the checksum
+ * end the segment they are in.
+ */
+final class AuditSpillLog implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(AuditSpillLog.class);
+    private static final String SEGMENT_PREFIX = "spill-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_SIZE = 8;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    //oldest segment first, records are appended to the last segment
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+
+    AuditSpillLog(final Path directory, final int segmentSize, final long maxSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Invalid segment size " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxSize / segmentSize));
+
+        Files.createDirectories(directory);
+        for (Path path : listSegments()) {
+            final String fileName = path.getFileName().toString();
+            final Segment segment = new Segment(path);
+            segment.recover();
+            segments.add(segment);
+            nextSegmentId = Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length())) + 1;
+        }
+        deleteConsumedSegments();
+    }
+
+    /**
+     * @return false if the record does not fit into the log
+     */
+    synchronized boolean append(final byte[] record) throws IOException {
+        if (record.length + HEADER_SIZE > segmentSize) {
+            return false;
+        }
+
+        Segment segment = segments.peekLast();
+        if (segment == null || !segment.hasRoom(record.length)) {
+            if (segments.size() >= maxSegments) {
+                return false;
+            }
+            segment = new Segment(directory.resolve(segmentFileName(nextSegmentId++)));
+            segments.add(segment);
+        }
+
+        segment.append(record);
+        return true;
+    }
+
+    /**
+     * @return the oldest record which is not yet consumed or null if there is none
+     */
+    synchronized byte[] peek() {
+        for (Segment segment : segments) {
+            if (!segment.isConsumed()) {
+                return segment.peek();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks the record returned by the last {@link #peek()} as consumed
+     */
+    synchronized void remove() throws IOException {
+        for (Segment segment : segments) {
+            if (!segment.isConsumed()) {
+                segment.remove();
+                break;
+            }
+        }
+        deleteConsumedSegments();
+    }
+
+    synchronized boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (!segment.isConsumed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized void force() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+        segments.clear();
+    }
+
+    private void deleteConsumedSegments() throws IOException {
+        //the last segment is kept to append new records
+        while (segments.size() > 1 && segments.peekFirst().isConsumed()) {
+            Files.deleteIfExists(segments.pollFirst().path);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        final List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        //segment file names are zero padded so they sort by id
+        Collections.sort(paths);
+        return paths;
+    }
+
+    private static String segmentFileName(final long id) {
+        return SEGMENT_PREFIX + String.format("%020d", id) + SEGMENT_SUFFIX;
+    }
+
+    private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+        final ByteBuffer payload = buffer.duplicate();
+        payload.limit(offset + length).position(offset);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private final class Segment {
+
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int readPosition;
+        private int writePosition;
+
+        Segment(final Path path) throws IOException {
+            this.path = path;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+        }
+
+        void recover() {
+            int position = 0;
+            boolean consumed = true;
+            while (position + HEADER_SIZE <= segmentSize) {
+                final int length = buffer.getInt(position);
+                if (length == 0) {
+                    break;
+                }
+                final int payloadLength = Math.abs(length);
+                if (payloadLength <= 0 || payloadLength > segmentSize - position - HEADER_SIZE
+                        || checksum(buffer, position + HEADER_SIZE, payloadLength) != buffer.getInt(position + 4)) {
+                    log.error("Audit spill log segment {} is corrupted at position {}, discarding the rest of the segment", path, position);
+                    break;
+                }
+                position += HEADER_SIZE + payloadLength;
+                if (length > 0) {
+                    consumed = false;
+                } else if (consumed) {
+                    readPosition = position;
+                }
+            }
+            writePosition = position;
+            markEnd();
+        }
+
+        boolean hasRoom(final int length) {
+            return writePosition + HEADER_SIZE + length <= segmentSize;
+        }
+
+        void append(final byte[] record) {
+            final ByteBuffer target = buffer.duplicate();
+            target.position(writePosition + HEADER_SIZE);
+            target.put(record);
+            buffer.putInt(writePosition + 4, checksum(buffer, writePosition + HEADER_SIZE, record.length));
+            //the length is written last, a record is only visible after a restart once it is complete
+            buffer.putInt(writePosition, record.length);
+            writePosition += HEADER_SIZE + record.length;
+            markEnd();
+        }
+
+        boolean isConsumed() {
+            return readPosition >= writePosition;
+        }
+
+        byte[] peek() {
+            final int length = buffer.getInt(readPosition);
+            final byte[] record = new byte[length];
+            final ByteBuffer source = buffer.duplicate();
+            source.position(readPosition + HEADER_SIZE);
+            source.get(record);
+            return record;
+        }
+
+        void remove() {
+            final int length = buffer.getInt(readPosition);
+            buffer.putInt(readPosition, -length);
+            readPosition += HEADER_SIZE + length;
+        }
+
+        //a recovered segment might contain stale records behind the write position
+        private void markEnd() {
+            if (writePosition + 4 <= segmentSize) {
+                buffer.putInt(writePosition, 0);
+            }
+        }
+    }
+}
@@ -24,7 +24,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
@@ -42,6 +44,7 @@ public final class ExternalOpenSearchSink extends AuditLogSink {
 	private final String index;
 	private final String type;
 	private final HttpClient client;
+	private final AuditMessageBulkProcessor bulkProcessor;
 	private List<String> servers;
 	private DateTimeFormatter indexPattern;
 
@@ -164,16 +167,35 @@ public final class ExternalOpenSearchSink extends AuditLogSink {
 		}
 
 		client = builder.build();
+
+		if (AuditMessageBulkProcessor.isEnabled(sinkSettings)) {
+			bulkProcessor = new AuditMessageBulkProcessor(this, sinkSettings, client::bulkAsync);
+		} else {
+			bulkProcessor = null;
+		}
 	}
 
 	@Override
 	public void close() throws IOException {
+		if (bulkProcessor != null) {
+			bulkProcessor.close();
+		}
 		if (client != null) {
 			client.close();
 		}
 	}
 
 	public boolean doStore(final AuditMessage msg) {
+		if (bulkProcessor != null) {
+			try {
+				bulkProcessor.add(new IndexRequest(getExpandedIndexName(indexPattern, index)).source(msg.toJsonBytes(), XContentType.JSON), msg);
+				return true;
+			} catch (Exception e) {
+				log.error("Unable to queue audit log {} due to", msg, e);
+				return false;
+			}
+		}
+
 		try {
 			boolean successful = client.index(msg.toString(), getExpandedIndexName(indexPattern, index), type, true);
 			if (!successful) {
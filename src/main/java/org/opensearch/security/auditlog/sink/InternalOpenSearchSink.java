@@ -18,12 +18,17 @@ package org.opensearch.security.auditlog.sink;
 import java.io.IOException;
 import java.nio.file.Path;
 
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
 import org.opensearch.client.Client;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.threadpool.ThreadPool;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
@@ -39,6 +44,7 @@ public final class InternalOpenSearchSink extends AuditLogSink {
 	final String type;
 	private DateTimeFormatter indexPattern;
 	private final ThreadPool threadPool;
+	private final AuditMessageBulkProcessor bulkProcessor;
 
 	public InternalOpenSearchSink(final String name, final Settings settings, final String settingsPrefix, final Path configPath, final Client clientProvider, ThreadPool threadPool, AuditLogSink fallbackSink) {
 		super(name, settings, settingsPrefix, fallbackSink);
@@ -54,11 +60,19 @@ public final class InternalOpenSearchSink extends AuditLogSink {
 		} catch (IllegalArgumentException e) {
 			log.debug("Unable to parse index pattern due to {}. " + "If you have no date pattern configured you can safely ignore this message", e.getMessage());
 		}
+
+		if (AuditMessageBulkProcessor.isEnabled(sinkSettings)) {
+			this.bulkProcessor = new AuditMessageBulkProcessor(this, sinkSettings, this::executeBulk);
+		} else {
+			this.bulkProcessor = null;
+		}
 	}
 
 	@Override
 	public void close() throws IOException {
-
+		if (bulkProcessor != null) {
+			bulkProcessor.close();
+		}
 	}
 
 	public boolean doStore(final AuditMessage msg) {
@@ -70,9 +84,19 @@ public final class InternalOpenSearchSink extends AuditLogSink {
 			return true;
 		}
 
+		if (bulkProcessor != null) {
+			try {
+				bulkProcessor.add(new IndexRequest(getExpandedIndexName(indexPattern, index)).source(msg.toJsonBytes(), XContentType.JSON), msg);
+				return true;
+			} catch (final Exception e) {
+				log.error("Unable to queue audit log {} due to", msg, e);
+				return false;
+			}
+		}
+
 		try (StoredContext ctx = threadPool.getThreadContext().stashContext()) {
 			try {
-				final IndexRequestBuilder irb = clientProvider.prepareIndex(getExpandedIndexName(indexPattern, index)).setRefreshPolicy(RefreshPolicy.IMMEDIATE).setSource(msg.getAsMap());
+				final IndexRequestBuilder irb = clientProvider.prepareIndex(getExpandedIndexName(indexPattern, index)).setRefreshPolicy(RefreshPolicy.IMMEDIATE).setSource(msg.toJsonBytes(), XContentType.JSON);
 				threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
 				irb.setTimeout(TimeValue.timeValueMinutes(1));
 				irb.execute().actionGet();
@@ -83,4 +107,11 @@ public final class InternalOpenSearchSink extends AuditLogSink {
 			}
 		}
 	}
+
+	private void executeBulk(final BulkRequest bulkRequest, final ActionListener<BulkResponse> listener) {
+		try (StoredContext ctx = threadPool.getThreadContext().stashContext()) {
+			threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+			clientProvider.bulk(bulkRequest.timeout(TimeValue.timeValueMinutes(1)), listener);
+		}
+	}
 }
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Locale;
 import java.util.Properties;
 
 import org.apache.kafka.clients.producer.Callback;
@@ -27,19 +28,24 @@ import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
 
 import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
 
 public class KafkaSink extends AuditLogSink {
 
     private final String[] mandatoryProperties = new String []{"bootstrap_servers","topic_name"};
+    //settings of the sink which are not passed to the producer
+    private static final String TOPIC_NAME = "topic_name";
+    private static final String PARTITION_KEY = ConfigConstants.SECURITY_AUDIT_KAFKA_PARTITION_KEY;
 	private boolean valid = true;
-	private Producer<Long, String> producer;
+	private Producer<String, byte[]> producer;
 	private String topicName;
+	private PartitionKey partitionKey;
 
 	public KafkaSink(final String name, final Settings settings, final String settingsPrefix, AuditLogSink fallbackSink) {
 		super(name, settings, settingsPrefix, fallbackSink);
@@ -55,14 +61,27 @@ public class KafkaSink extends AuditLogSink {
         final Properties producerProps = new Properties();
 
         for(String key: sinkSettings.names()) {
-            if(!key.equals("topic_name")) {
+            if(!key.equals(TOPIC_NAME) && !key.equals(PARTITION_KEY)) {
                 producerProps.put(key.replace('_', '.'), sinkSettings.get(key));
             }
         }
 
-		producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class.getName());
-		producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
-		topicName = sinkSettings.get("topic_name");
+        //audit messages are small and produced at a high rate, so let the producer batch them unless configured otherwise,
+        //records are only compressed if compression_type is set
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, sinkSettings.get(ConfigConstants.SECURITY_AUDIT_KAFKA_LINGER_MS, "5"));
+        producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, sinkSettings.get(ConfigConstants.SECURITY_AUDIT_KAFKA_BATCH_SIZE, "65536"));
+        producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, sinkSettings.get(ConfigConstants.SECURITY_AUDIT_KAFKA_COMPRESSION_TYPE, "none"));
+
+		producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+		producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+		topicName = sinkSettings.get(TOPIC_NAME);
+
+		try {
+			partitionKey = PartitionKey.valueOf(sinkSettings.get(PARTITION_KEY, PartitionKey.NONE.name()).toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			log.error("Invalid value for {}, must be one of none, category or user. Using none.", PARTITION_KEY);
+			partitionKey = PartitionKey.NONE;
+		}
 
 		//map path of
 		//ssl.keystore.location
@@ -76,10 +95,10 @@ public class KafkaSink extends AuditLogSink {
         }
 
         try {
-            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<Long, String>>() {
+            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<String, byte[]>>() {
                 @Override
-                public KafkaProducer<Long, String> run() throws Exception {
-                    return new KafkaProducer<Long, String>(producerProps);
+                public KafkaProducer<String, byte[]> run() throws Exception {
+                    return new KafkaProducer<String, byte[]>(producerProps);
                 }
             });
         } catch (PrivilegedActionException e) {
@@ -95,7 +114,7 @@ public class KafkaSink extends AuditLogSink {
 			return false;
 		}
 
-		ProducerRecord<Long, String> data = new ProducerRecord<Long, String>(topicName, msg.toJson());
+		ProducerRecord<String, byte[]> data = new ProducerRecord<String, byte[]>(topicName, partitionKey.of(msg), msg.toJsonBytes());
 		producer.send(data, new Callback() {
 
             @Override
@@ -127,6 +146,32 @@ public class KafkaSink extends AuditLogSink {
 	    }
 	}
 
+    /**
+     * Key of the records, messages with the same key end up in the same partition
+     */
+    private enum PartitionKey {
+        NONE {
+            @Override
+            String of(AuditMessage msg) {
+                return null;
+            }
+        },
+        CATEGORY {
+            @Override
+            String of(AuditMessage msg) {
+                return msg.getCategory().name();
+            }
+        },
+        USER {
+            @Override
+            String of(AuditMessage msg) {
+                return msg.getEffectiveUser();
+            }
+        };
+
+        abstract String of(AuditMessage msg);
+    }
+
     @Override
     public void close() throws IOException {
         if(producer != null) {
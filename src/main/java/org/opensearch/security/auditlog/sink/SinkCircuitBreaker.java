@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks consecutive delivery failures of a sink.
+ *
+ * After failureThreshold consecutive failures the breaker opens and no delivery is attempted for openMs.
+ * Afterwards a single delivery is let through, if it succeeds the breaker closes, otherwise it opens again.
+ * A failure threshold of 0 disables the breaker.
+ */
+final class SinkCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntilNanos = new AtomicLong();
+
+    SinkCircuitBreaker(final int failureThreshold, final long openMs) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+    }
+
+    /**
+     * @return false if the breaker is open and the delivery must not be attempted
+     */
+    boolean allowRequest() {
+        if (failureThreshold <= 0 || consecutiveFailures.get() < failureThreshold) {
+            return true;
+        }
+        final long openUntil = openUntilNanos.get();
+        final long now = System.nanoTime();
+        //only one caller gets to probe the destination once the open period is over
+        return now - openUntil >= 0 && openUntilNanos.compareAndSet(openUntil, now + openNanos);
+    }
+
+    void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * @return true if this failure opened the breaker
+     */
+    boolean onFailure() {
+        if (failureThreshold > 0 && consecutiveFailures.incrementAndGet() == failureThreshold) {
+            openUntilNanos.set(System.nanoTime() + openNanos);
+            return true;
+        }
+        return false;
+    }
+
+    int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    boolean isOpen() {
+        return failureThreshold > 0 && consecutiveFailures.get() >= failureThreshold;
+    }
+}
@@ -58,6 +58,7 @@ public class SinkProvider {
 		// make sure we always have a fallback to write to
 		if (this.fallbackSink == null) {
 			this.fallbackSink = new DebugSink(FALLBACKSINK_NAME, settings, null);
+			this.fallbackSink.startBackgroundTasks();
 		}
 
 		allSinks.put(FALLBACKSINK_NAME, this.fallbackSink);
@@ -117,6 +118,8 @@ public class SinkProvider {
 			sink.close();
 		} catch (Exception ex) {
 			log.info("Could not close sink '{}' due to '{}'", sink.getClass().getSimpleName(), ex.getMessage());
+		} finally {
+			sink.stopBackgroundTasks();
 		}
 	}
 
@@ -171,6 +174,9 @@ public class SinkProvider {
 				}
 			}
 		}
+		if (sink != null) {
+			sink.startBackgroundTasks();
+		}
 		return sink;
 	}
 
@@ -24,9 +24,18 @@ import java.security.AccessController;
 import java.security.KeyStore;
 import java.security.PrivilegedAction;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.http.HttpStatus;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.GzipCompressingEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -36,6 +45,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
@@ -56,6 +66,15 @@ public class WebhookSink extends AuditLogSink {
 	WebhookFormat webhookFormat = null;
 	final boolean verifySSL;
 	final KeyStore effectiveTruststore;
+	final boolean gzip;
+	final int maxConnections;
+	final int maxBatchSize;
+
+	// only used if batching is enabled, messages are collected until the batch is full or the linger time elapsed
+	private final Object batchLock = new Object();
+	private List<AuditMessage> currentBatch;
+	private ScheduledExecutorService lingerScheduler;
+	private ThreadPoolExecutor batchSender;
 
     public WebhookSink(final String name, final Settings settings, final String settingsPrefix, final Path configPath, AuditLogSink fallbackSink) throws Exception {
 	    super(name, settings, settingsPrefix, fallbackSink);
@@ -68,6 +87,9 @@ public class WebhookSink extends AuditLogSink {
 		final String format = sinkSettings.get(ConfigConstants.SECURITY_AUDIT_WEBHOOK_FORMAT);
 
 		verifySSL = sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_WEBHOOK_SSL_VERIFY, true);
+		gzip = sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_WEBHOOK_GZIP, false);
+		maxConnections = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_MAX_CONNECTIONS, 4));
+		maxBatchSize = sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_SIZE, 0);
 		httpClient = getHttpClient();
 
 		if(httpClient == null) {
@@ -99,6 +121,69 @@ public class WebhookSink extends AuditLogSink {
 				webhookFormat = WebhookFormat.TEXT;
 			}
 		}
+
+		if (maxBatchSize > 1) {
+			if (webhookFormat.method != HttpMethod.POST || webhookFormat == WebhookFormat.URL_PARAMETER_POST) {
+				log.warn("WebhookFormat '{}' does not support batching, messages will be sent one by one", webhookFormat.name());
+			} else {
+				startBatching(sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_LINGER_MS, 1000L));
+			}
+		}
+	}
+
+	private void startBatching(final long lingerMs) {
+		currentBatch = new ArrayList<>(maxBatchSize);
+		// at most maxConnections batches are sent concurrently, if all connections are busy the caller sends the batch itself
+		final AtomicInteger senderCount = new AtomicInteger();
+		batchSender = new ThreadPoolExecutor(maxConnections, maxConnections, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(maxConnections), r -> {
+					final Thread thread = new Thread(r, "opensearch-security-audit-webhook-" + getName() + "-" + senderCount.getAndIncrement());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+		lingerScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r, "opensearch-security-audit-webhook-linger-" + getName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		// an exception would suppress all subsequent runs, so it must not escape the scheduled task
+		lingerScheduler.scheduleAtFixedRate(() -> {
+			try {
+				flushBatch();
+			} catch (Throwable t) {
+				log.error("Unable to flush batch of audit messages to webhook URL '{}'", webhookUrl, t);
+			}
+		}, lingerMs, lingerMs, TimeUnit.MILLISECONDS);
+	}
+
+	private void flushBatch() {
+		final List<AuditMessage> batch;
+		synchronized (batchLock) {
+			if (currentBatch.isEmpty()) {
+				return;
+			}
+			batch = currentBatch;
+			currentBatch = new ArrayList<>(maxBatchSize);
+		}
+		sendBatch(batch);
+	}
+
+	private void sendBatch(final List<AuditMessage> batch) {
+		if (batchSender.isShutdown()) {
+			batch.forEach(this::storeUndelivered);
+			return;
+		}
+		try {
+			batchSender.execute(() -> {
+				final boolean success = AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> doPost(webhookUrl, formatBatch(batch)));
+				if (!success) {
+					batch.forEach(this::storeUndelivered);
+				}
+			});
+		} catch (Exception e) {
+			log.error("Unable to send batch of {} audit messages", batch.size(), e);
+			batch.forEach(this::storeUndelivered);
+		}
 	}
 
 	@Override
@@ -112,6 +197,21 @@ public class WebhookSink extends AuditLogSink {
 			return true;
 		}
 
+		if (batchSender != null) {
+			List<AuditMessage> fullBatch = null;
+			synchronized (batchLock) {
+				currentBatch.add(msg);
+				if (currentBatch.size() >= maxBatchSize) {
+					fullBatch = currentBatch;
+					currentBatch = new ArrayList<>(maxBatchSize);
+				}
+			}
+			if (fullBatch != null) {
+				sendBatch(fullBatch);
+			}
+			return true;
+		}
+
 		return AccessController.doPrivileged(new PrivilegedAction<Boolean>() {
 
 			@Override
@@ -145,6 +245,18 @@ public class WebhookSink extends AuditLogSink {
 
     @Override
     public void close() throws IOException {
+        if (batchSender != null) {
+            lingerScheduler.shutdownNow();
+            flushBatch();
+            batchSender.shutdown();
+            try {
+                if (!batchSender.awaitTermination(1, TimeUnit.MINUTES)) {
+                    log.warn("Not all audit messages could be sent to webhook URL '{}' within one minute", webhookUrl);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         if(httpClient != null) {
         	httpClient.close();
         }
@@ -205,6 +317,45 @@ public class WebhookSink extends AuditLogSink {
 		return msg.toUrlParameters();
 	}
 
+	/**
+	 * Transforms a batch of {@link AuditMessage}s to the payload of one request.
+	 * JSON batches are sent as JSON array, NDJSON batches as one JSON document per line
+	 * and text batches as one message per line.
+	 *
+	 * @param batch the AuditMessages to transform
+	 * @return the payload string
+	 */
+	protected String formatBatch(List<AuditMessage> batch) {
+		final StringBuilder payload = new StringBuilder();
+
+		switch (webhookFormat) {
+		case JSON:
+			payload.append('[');
+			for (int i = 0; i < batch.size(); i++) {
+				if (i > 0) {
+					payload.append(',');
+				}
+				payload.append(formatJson(batch.get(i)));
+			}
+			return payload.append(']').toString();
+		case NDJSON:
+			for (AuditMessage msg : batch) {
+				payload.append(formatJson(msg)).append('\n');
+			}
+			return payload.toString();
+		case SLACK:
+			for (AuditMessage msg : batch) {
+				payload.append(payload.length() == 0 ? "{\"text\": \"" : "\\n").append(msg.toText());
+			}
+			return payload.append("\"}").toString();
+		default:
+			for (AuditMessage msg : batch) {
+				payload.append(formatText(msg)).append('\n');
+			}
+			return payload.toString();
+		}
+	}
+
 	boolean get(AuditMessage msg) {
 		switch (webhookFormat) {
 		case URL_PARAMETER_GET:
@@ -249,6 +400,9 @@ public class WebhookSink extends AuditLogSink {
 		case JSON:
 			payload = formatJson(msg);
 			break;
+		case NDJSON:
+			payload = formatJson(msg) + "\n";
+			break;
 		case TEXT:
 			payload = formatText(msg);
 			break;
@@ -274,7 +428,7 @@ public class WebhookSink extends AuditLogSink {
 
 		StringEntity input = new StringEntity(payload, StandardCharsets.UTF_8);
 		input.setContentType(webhookFormat.contentType.toString());
-		postRequest.setEntity(input);
+		postRequest.setEntity(gzip ? new GzipCompressingEntity(input) : input);
 
 		CloseableHttpResponse serverResponse = null;
 		try {
@@ -355,7 +509,7 @@ public class WebhookSink extends AuditLogSink {
 	    try {
 
 	        if(!verifySSL) {
-	            return HttpClients.custom()
+	            return newHttpClientBuilder()
 	                    .setSSLSocketFactory(
 	                            new SSLConnectionSocketFactory(
 	                                    new SSLContextBuilder()
@@ -367,12 +521,12 @@ public class WebhookSink extends AuditLogSink {
 	        }
 
 	        if(effectiveTruststore == null) {
-	            return HttpClients.custom()
+	            return newHttpClientBuilder()
                         .setDefaultRequestConfig(config)
                         .build();
 	        }
 
-		    return HttpClients.custom()
+		    return newHttpClientBuilder()
 		            .setSSLSocketFactory(
 		                    new SSLConnectionSocketFactory(
 		                            new SSLContextBuilder()
@@ -389,11 +543,20 @@ public class WebhookSink extends AuditLogSink {
 	    }
 	}
 
+	private HttpClientBuilder newHttpClientBuilder() {
+		// the pooled connections are shared by all threads sending audit messages
+		return HttpClients.custom()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnections)
+				.evictIdleConnections(30, TimeUnit.SECONDS);
+	}
+
 	public static enum WebhookFormat {
 		URL_PARAMETER_GET(HttpMethod.GET, ContentType.TEXT_PLAIN),
 		URL_PARAMETER_POST(HttpMethod.POST, ContentType.TEXT_PLAIN),
 		TEXT(HttpMethod.POST, ContentType.TEXT_PLAIN),
 		JSON(HttpMethod.POST, ContentType.APPLICATION_JSON),
+		NDJSON(HttpMethod.POST, ContentType.create("application/x-ndjson", StandardCharsets.UTF_8)),
 		SLACK(HttpMethod.POST, ContentType.APPLICATION_JSON);
 
 		private HttpMethod method;
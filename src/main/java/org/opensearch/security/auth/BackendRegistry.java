@@ -37,6 +37,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.Callable;
@@ -58,6 +59,7 @@ import org.opensearch.security.auth.internal.NoOpAuthenticationBackend;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.InternalUsersModel;
 import org.opensearch.security.ssl.util.Utils;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.user.AuthCredentials;
@@ -94,6 +96,7 @@ public class BackendRegistry {
     private final ThreadPool threadPool;
     private final UserInjector userInjector;
     private final int ttlInMin;
+    private volatile InternalUsersModel internalUsersModel;
     private Cache<AuthCredentials, User> userCache; //rest standard
     private Cache<String, User> restImpersonationCache; //used for rest impersonation
     private Cache<User, Set<String>> restRoleCache; //
@@ -153,6 +156,36 @@ public class BackendRegistry {
         restRoleCache.invalidateAll();
     }
 
+    /**
+     * Evicts the cached users whose internal user entry changed, users of other authentication backends are kept.
+     * The whole cache is only invalidated if the authentication backends change, see {@link #onDynamicConfigModelChanged(DynamicConfigModel)}.
+     */
+    @Subscribe
+    public void onInternalUsersModelChanged(InternalUsersModel ium) {
+        final InternalUsersModel previous = internalUsersModel;
+        internalUsersModel = ium;
+
+        if (previous == null) {
+            return;
+        }
+
+        userCache.asMap().keySet().removeIf(ac -> internalUserChanged(previous, ium, ac.getUsername()));
+        restImpersonationCache.asMap().keySet().removeIf(username -> internalUserChanged(previous, ium, username));
+        restRoleCache.asMap().keySet().removeIf(user -> internalUserChanged(previous, ium, user.getName()));
+    }
+
+    static boolean internalUserChanged(final InternalUsersModel previous, final InternalUsersModel current, final String username) {
+        final boolean exists = current.exists(username);
+        if (exists != previous.exists(username)) {
+            return true;
+        }
+
+        return exists && (!Objects.equals(previous.getHash(username), current.getHash(username))
+                || !Objects.equals(previous.getBackenRoles(username), current.getBackenRoles(username))
+                || !Objects.equals(previous.getAttributes(username), current.getAttributes(username))
+                || !Objects.equals(previous.getSecurityRoles(username), current.getSecurityRoles(username)));
+    }
+
     @Subscribe
     public void onDynamicConfigModelChanged(DynamicConfigModel dcm) {
 
@@ -103,7 +103,7 @@ public class ComplianceConfig {
     private final String securityIndex;
 
     private final Map<WildcardMatcher, Set<String>> readEnabledFields;
-    private final LoadingCache<String, WildcardMatcher> readEnabledFieldsCache;
+    private final LoadingCache<String, WatchedReadFields> readEnabledFieldsCache;
     private final DateTimeFormatter auditLogPattern;
     private final String auditLogIndex;
     private final boolean enabled;
@@ -163,10 +163,10 @@ public class ComplianceConfig {
 
         this.readEnabledFieldsCache = CacheBuilder.newBuilder()
                 .maximumSize(CACHE_SIZE)
-                .build(new CacheLoader<String, WildcardMatcher>() {
+                .build(new CacheLoader<String, WatchedReadFields>() {
                     @Override
-                    public WildcardMatcher load(String index) throws Exception {
-                        return WildcardMatcher.from(getFieldsForIndex(index));
+                    public WatchedReadFields load(String index) throws Exception {
+                        return WatchedReadFields.of(getFieldsForIndex(index));
                     }
                 });
     }
@@ -481,7 +481,7 @@ public class ComplianceConfig {
             return logInternalConfig;
         }
         try {
-            return readEnabledFieldsCache.get(index) != WildcardMatcher.NONE;
+            return !readEnabledFieldsCache.get(index).isEmpty();
         } catch (ExecutionException e) {
             log.warn("Failed to get index {} fields enabled for read from cache. Bypassing cache.", index, e);
             return getFieldsForIndex(index).isEmpty();
@@ -495,20 +495,28 @@ public class ComplianceConfig {
      * @return true/false
      */
     public boolean readHistoryEnabledForField(String index, String field) {
+        return getWatchedReadFields(index).test(field);
+    }
+
+    /**
+     * Get the fields watched for read requests for given index
+     * Checks if compliance is enabled
+     * @param index index
+     * @return watched fields, never null
+     */
+    WatchedReadFields getWatchedReadFields(String index) {
         if (!this.isEnabled()) {
-            return false;
+            return WatchedReadFields.NONE;
         }
         // if security index (internal index) check if internal config logging is enabled
         if (securityIndex.equals(index)) {
-            return logInternalConfig;
+            return logInternalConfig ? WatchedReadFields.ALL : WatchedReadFields.NONE;
         }
-        WildcardMatcher matcher;
         try {
-            matcher = readEnabledFieldsCache.get(index);
+            return readEnabledFieldsCache.get(index);
         } catch (ExecutionException e) {
             log.warn("Failed to get index {} fields enabled for read from cache. Bypassing cache.", index, e);
-            matcher = WildcardMatcher.from(getFieldsForIndex(index));
+            return WatchedReadFields.of(getFieldsForIndex(index));
         }
-        return matcher.test(field);
     }
 }
@@ -39,7 +39,6 @@ import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.SourceFieldsContext;
 import org.opensearch.security.support.WildcardMatcher;
-import com.github.wnameless.json.flattener.JsonFlattener;
 
 //TODO  We need to deal with caching!!
 //Currently we disable caching (and realtime requests) when FLS or DLS is applied
@@ -55,6 +54,7 @@ public final class FieldReadCallback {
     private final Index index;
     private final WildcardMatcher maskedFieldsMatcher;
     private final AuditLog auditLog;
+    private final WatchedReadFields watchedFields;
     private Function<Map<String, ?>, Map<String, Object>> filterFunction;
     private SourceFieldsContext sfc;
     private Doc doc;
@@ -70,6 +70,8 @@ public final class FieldReadCallback {
         this.auditLog = auditLog;
         this.maskedFieldsMatcher = maskedFieldsMatcher;
         this.shardId = shardId;
+        final ComplianceConfig complianceConfig = auditLog.getComplianceConfig();
+        this.watchedFields = complianceConfig == null ? WatchedReadFields.NONE : complianceConfig.getWatchedReadFields(index.getName());
         try {
             sfc = (SourceFieldsContext) HeaderHelper.deserializeSafeFromHeader(threadContext, "_opendistro_security_source_field_context");
             if(sfc != null && sfc.hasIncludesOrExcludes()) {
@@ -87,7 +89,7 @@ public final class FieldReadCallback {
     }
 
     private boolean recordField(final String fieldName, boolean isStringField) {
-        return !(isStringField && maskedFieldsMatcher.test(fieldName)) && auditLog.getComplianceConfig().readHistoryEnabledForField(index.getName(), fieldName);
+        return !(isStringField && maskedFieldsMatcher.test(fieldName)) && watchedFields.test(fieldName);
     }
 
     public void binaryFieldRead(final FieldInfo fieldInfo, byte[] fieldValue) {
@@ -98,18 +100,21 @@ public final class FieldReadCallback {
 
             if(fieldInfo.name.equals("_source")) {
 
+                if(watchedFields.isEmpty()) {
+                    return;
+                }
+
                 if(filterFunction != null) {
                     final Map<String, Object> filteredSource = filterFunction.apply(Utils.byteArrayToMutableJsonMap(fieldValue));
                     fieldValue = Utils.jsonMapToByteArray(filteredSource);
                 }
 
-                Map<String, Object> filteredSource = new JsonFlattener(new String(fieldValue, StandardCharsets.UTF_8)).flattenAsMap();
-                for(String k: filteredSource.keySet()) {
-                    if(!recordField(k, filteredSource.get(k) instanceof String)) {
-                        continue;
+                //only the watched fields are extracted from the source, everything else is skipped while parsing
+                watchedFields.extract(fieldValue, (k, v, isString) -> {
+                    if(!(isString && maskedFieldsMatcher.test(k))) {
+                        fieldRead0(k, v);
                     }
-                    fieldRead0(k, filteredSource.get(k));
-                }
+                });
             } else if (fieldInfo.name.equals("_id")) {
                 fieldRead0(fieldInfo.name, Uid.decodeId(fieldValue));
             }  else {
@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.compliance;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.security.support.WildcardMatcher;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * The fields of one index which are watched for read requests.
+ *
+ * Besides matching single field names this extracts the watched fields directly from the _source of a document.
+ * The source is streamed and subtrees which can not contain a watched field are skipped,
+ * the field names are flattened the same way as JsonFlattener does (a.b, a[0], ["a.b"]).
+ */
+final class WatchedReadFields {
+
+    static final WatchedReadFields NONE = new WatchedReadFields(WildcardMatcher.NONE, ImmutableSet.of());
+    static final WatchedReadFields ALL = new WatchedReadFields(WildcardMatcher.ANY, null);
+
+    private final WildcardMatcher matcher;
+    //paths of all objects and arrays which contain watched fields or null if any path might contain a watched field
+    private final Set<String> parentPaths;
+
+    private WatchedReadFields(final WildcardMatcher matcher, final Set<String> parentPaths) {
+        this.matcher = matcher;
+        this.parentPaths = parentPaths;
+    }
+
+    static WatchedReadFields of(final Set<String> fieldPatterns) {
+        if (fieldPatterns.isEmpty()) {
+            return NONE;
+        }
+
+        Set<String> parentPaths = new HashSet<>();
+        for (String pattern : fieldPatterns) {
+            if (pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.startsWith("/")) {
+                parentPaths = null;
+                break;
+            }
+            for (int i = 1; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                if (c == '.' || c == '[') {
+                    parentPaths.add(pattern.substring(0, i));
+                }
+            }
+        }
+
+        return new WatchedReadFields(WildcardMatcher.from(fieldPatterns), parentPaths == null ? null : ImmutableSet.copyOf(parentPaths));
+    }
+
+    boolean isEmpty() {
+        return matcher == WildcardMatcher.NONE;
+    }
+
+    boolean test(final String field) {
+        return matcher.test(field);
+    }
+
+    /**
+     * Calls the consumer for every watched leaf value of the given JSON source
+     */
+    void extract(final byte[] source, final FieldConsumer consumer) throws IOException {
+        if (isEmpty()) {
+            return;
+        }
+
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source)) {
+            if (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                extractObject(parser, "", consumer);
+            }
+        }
+    }
+
+    private void extractObject(final XContentParser parser, final String path, final FieldConsumer consumer) throws IOException {
+        boolean empty = true;
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+            empty = false;
+            final String fieldPath = childPath(path, parser.currentName());
+            parser.nextToken();
+            extractValue(parser, fieldPath, consumer);
+        }
+
+        //empty objects and arrays are leaf values in flattened documents
+        if (empty && !path.isEmpty() && matcher.test(path)) {
+            consumer.accept(path, "{}", false);
+        }
+    }
+
+    private void extractArray(final XContentParser parser, final String path, final FieldConsumer consumer) throws IOException {
+        int i = 0;
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+            extractValue(parser, path + "[" + (i++) + "]", consumer);
+        }
+
+        if (i == 0 && matcher.test(path)) {
+            consumer.accept(path, "[]", false);
+        }
+    }
+
+    private void extractValue(final XContentParser parser, final String path, final FieldConsumer consumer) throws IOException {
+        final XContentParser.Token token = parser.currentToken();
+
+        if (token == XContentParser.Token.START_OBJECT || token == XContentParser.Token.START_ARRAY) {
+            if (parentPaths != null && !parentPaths.contains(path) && !matcher.test(path)) {
+                parser.skipChildren();
+            } else if (token == XContentParser.Token.START_OBJECT) {
+                extractObject(parser, path, consumer);
+            } else {
+                extractArray(parser, path, consumer);
+            }
+        } else if (matcher.test(path)) {
+            if (token == XContentParser.Token.VALUE_NULL) {
+                consumer.accept(path, "null", false);
+            } else {
+                consumer.accept(path, parser.text(), token == XContentParser.Token.VALUE_STRING);
+            }
+        }
+    }
+
+    private static String childPath(final String path, final String name) {
+        if (name.indexOf('.') >= 0 || name.indexOf('[') >= 0 || name.indexOf(']') >= 0) {
+            return path + "[\\\"" + escape(name) + "\\\"]";
+        }
+        return path.isEmpty() ? escape(name) : path + "." + escape(name);
+    }
+
+    //JsonFlattener keeps the keys JSON escaped
+    private static String escape(final String name) {
+        if (name.indexOf('"') < 0 && name.indexOf('\\') < 0) {
+            return name;
+        }
+        return name.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @FunctionalInterface
+    interface FieldConsumer {
+        void accept(String field, String value, boolean isString);
+    }
+}
@@ -221,7 +221,7 @@ public class ConfigurationLoaderSecurity7 {
                             try {
                                 final SecurityDynamicConfiguration<?> dConf = toConfig(singleGetResponse, acceptInvalid);
                                 if(dConf != null) {
-                                    callback.success(dConf.deepClone());
+                                    callback.success(dConf);
                                 } else {
                                     callback.failure(new Exception("Cannot parse settings for "+singleGetResponse.getId()));
                                 }
@@ -275,32 +275,7 @@ public class ConfigurationLoaderSecurity7 {
 
             parser.nextToken();
 
-            final String jsonAsString = SecurityUtils.replaceEnvVars(new String(parser.binaryValue()), settings);
-            final JsonNode jsonNode = DefaultObjectMapper.readTree(jsonAsString);
-            int configVersion = 1;
-
-
-
-            if(jsonNode.get("_meta") != null) {
-                assert jsonNode.get("_meta").get("type").asText().equals(id);
-                configVersion = jsonNode.get("_meta").get("config_version").asInt();
-            }
-
-            if(log.isDebugEnabled()) {
-                log.debug("Load "+id+" with version "+configVersion);
-            }
-
-            if (CType.ACTIONGROUPS.toLCString().equals(id)) {
-                try {
-                    return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid);
-                } catch (Exception e) {
-                    if(log.isDebugEnabled()) {
-                        log.debug("Unable to load "+id+" with version "+configVersion+" - Try loading legacy format ...");
-                    }
-                    return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), 0, seqNo, primaryTerm, acceptInvalid);
-                }
-            }
-            return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid);
+            return toConfig(id, new String(parser.binaryValue()), seqNo, primaryTerm, acceptInvalid);
 
         } finally {
             if(parser != null) {
@@ -312,4 +287,46 @@ public class ConfigurationLoaderSecurity7 {
             }
         }
     }
+
+    /**
+     * Parses a configuration document which was sent along with a config update instead of reading it from the index
+     */
+    SecurityDynamicConfiguration<?> load(final CType cType, final BytesReference source, final long seqNo, final long primaryTerm, boolean acceptInvalid) throws IOException {
+        final SecurityDynamicConfiguration<?> dConf = toConfig(cType.toLCString(), source.utf8ToString(), seqNo, primaryTerm, acceptInvalid);
+
+        if (cType == CType.AUDIT) {
+            isAuditConfigDocPresentInIndex.set(true);
+        }
+
+        return dConf;
+    }
+
+    private SecurityDynamicConfiguration<?> toConfig(final String id, final String json, final long seqNo, final long primaryTerm, boolean acceptInvalid) throws IOException {
+        final String jsonAsString = SecurityUtils.replaceEnvVars(json, settings);
+        final JsonNode jsonNode = DefaultObjectMapper.readTree(jsonAsString);
+        int configVersion = 1;
+
+
+
+        if(jsonNode.get("_meta") != null) {
+            assert jsonNode.get("_meta").get("type").asText().equals(id);
+            configVersion = jsonNode.get("_meta").get("config_version").asInt();
+        }
+
+        if(log.isDebugEnabled()) {
+            log.debug("Load "+id+" with version "+configVersion);
+        }
+
+        if (CType.ACTIONGROUPS.toLCString().equals(id)) {
+            try {
+                return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid);
+            } catch (Exception e) {
+                if(log.isDebugEnabled()) {
+                    log.debug("Unable to load "+id+" with version "+configVersion+" - Try loading legacy format ...");
+                }
+                return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), 0, seqNo, primaryTerm, acceptInvalid);
+            }
+        }
+        return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid);
+    }
 }
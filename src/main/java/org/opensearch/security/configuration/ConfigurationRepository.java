@@ -32,12 +32,18 @@ package org.opensearch.security.configuration;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +58,7 @@ import com.google.common.collect.ImmutableMap;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import org.opensearch.OpenSearchException;
+import org.opensearch.SpecialPermission;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
@@ -64,12 +71,14 @@ import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
 import org.opensearch.env.Environment;
 import org.opensearch.security.ssl.util.ExceptionUtils;
 import org.opensearch.threadpool.ThreadPool;
 
+import org.opensearch.security.action.configupdate.ConfigPayload;
 import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
 import org.opensearch.security.securityconf.impl.CType;
@@ -96,6 +105,14 @@ public class ConfigurationRepository {
     private final Thread bgThread;
     private final AtomicBoolean installDefaultConfig = new AtomicBoolean();
     private final boolean acceptInvalid;
+    //local copy of the last configuration loaded from the index, null if disabled
+    private final ConfigurationSnapshot snapshot;
+    //true while the configuration was only loaded from the snapshot and not yet from the index
+    private final AtomicBoolean servingSnapshot = new AtomicBoolean();
+    //true while a snapshot write is queued, reloads in the meantime are covered by that write
+    private final AtomicBoolean snapshotWritePending = new AtomicBoolean();
+    //configuration of the last snapshot write, guarded by the snapshot
+    private Map<CType, SecurityDynamicConfiguration<?>> lastWrittenSnapshot = Collections.emptyMap();
 
     private ConfigurationRepository(Settings settings, final Path configPath, ThreadPool threadPool,
                                     Client client, ClusterService clusterService, AuditLog auditLog) {
@@ -108,6 +125,7 @@ public class ConfigurationRepository {
         this.configurationChangedListener = new ArrayList<>();
         this.acceptInvalid = settings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_ACCEPT_INVALID_CONFIG, false);
         cl = new ConfigurationLoaderSecurity7(client, threadPool, settings, clusterService);
+        snapshot = createSnapshot(settings);
 
         configCache = CacheBuilder
                 .newBuilder()
@@ -160,7 +178,12 @@ public class ConfigurationRepository {
                         }
                     }
 
-                    while(!dynamicConfigFactory.isInitialized()) {
+                    if(snapshot != null && !dynamicConfigFactory.isInitialized()) {
+                        loadSnapshot();
+                    }
+
+                    //a configuration loaded from the snapshot is reconciled with the index as soon as it is available
+                    while(!dynamicConfigFactory.isInitialized() || servingSnapshot.get()) {
                         try {
                             LOGGER.debug("Try to load config ...");
                             reloadConfiguration(Arrays.asList(CType.values()));
@@ -202,6 +225,127 @@ public class ConfigurationRepository {
 
     }
 
+    static ConfigurationSnapshot createSnapshot(final Settings settings) {
+        if (!settings.getAsBoolean(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_ENABLED, false)) {
+            return null;
+        }
+
+        final List<String> dataPaths = Environment.PATH_DATA_SETTING.get(settings);
+        if (dataPaths.isEmpty()) {
+            LOGGER.error("Configuration snapshot is disabled because path.data is not set");
+            return null;
+        }
+
+        final Path dataPath = Paths.get(dataPaths.get(0)).toAbsolutePath().normalize();
+        final String configuredPath = settings.get(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_PATH);
+        if (configuredPath == null) {
+            return new ConfigurationSnapshot(dataPath.resolve("security_config_snapshot").resolve("config.snapshot"));
+        }
+
+        //relative paths are resolved against the first data path, the security manager only grants access to the data paths
+        final Path file = dataPath.resolve(configuredPath).normalize();
+        if (dataPaths.stream().map(p -> Paths.get(p).toAbsolutePath().normalize()).noneMatch(file::startsWith)) {
+            LOGGER.error("Configuration snapshot is disabled because {} ({}) is not within path.data", ConfigConstants.SECURITY_CONFIG_SNAPSHOT_PATH, file);
+            return null;
+        }
+        return new ConfigurationSnapshot(file);
+    }
+
+    private void loadSnapshot() {
+        try {
+            final Map<CType, SecurityDynamicConfiguration<?>> loaded = doPrivileged(() -> snapshot.read(acceptInvalid));
+            if (loaded == null) {
+                LOGGER.info("No configuration snapshot found at {}", snapshot.getFile());
+                return;
+            }
+            if (loaded.size() != CType.values().length) {
+                LOGGER.warn("Ignoring incomplete configuration snapshot {}", snapshot.getFile());
+                return;
+            }
+
+            LOCK.lock();
+            try {
+                if (dynamicConfigFactory.isInitialized()) {
+                    return;
+                }
+                servingSnapshot.set(true);
+                cache(loaded);
+                notifyAboutChanges(loaded);
+            } finally {
+                LOCK.unlock();
+            }
+            LOGGER.info("Node initialized from configuration snapshot {}, waiting for the security index to reconcile it", snapshot.getFile());
+        } catch (Exception e) {
+            servingSnapshot.set(false);
+            LOGGER.error("Unable to load configuration snapshot {}", snapshot.getFile(), e);
+        }
+    }
+
+    /**
+     * Writes the snapshot on the generic thread pool, so reloads do not wait for the disk while holding the lock.
+     * Reloads which happen before a queued write runs are covered by it.
+     */
+    private void scheduleSnapshotWrite() {
+        if (!snapshotWritePending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            threadPool.generic().execute(() -> {
+                snapshotWritePending.set(false);
+                writeSnapshot();
+            });
+        } catch (Exception e) {
+            snapshotWritePending.set(false);
+            LOGGER.error("Unable to schedule a write of the configuration snapshot {}", snapshot.getFile(), e);
+        }
+    }
+
+    private void writeSnapshot() {
+        synchronized (snapshot) {
+            //read under the monitor, so a write never replaces a newer configuration with an older one
+            final Map<CType, SecurityDynamicConfiguration<?>> configuration = new HashMap<>(configCache.asMap());
+            if (configuration.size() != CType.values().length || configuration.values().stream().anyMatch(c -> c.getCType() == null)) {
+                //a legacy index without some config types
+                return;
+            }
+            if (isSameConfiguration(configuration, lastWrittenSnapshot)) {
+                return;
+            }
+
+            try {
+                doPrivileged(() -> {
+                    snapshot.write(configuration);
+                    return null;
+                });
+                lastWrittenSnapshot = configuration;
+            } catch (Exception e) {
+                LOGGER.error("Unable to write configuration snapshot {}", snapshot.getFile(), e);
+            }
+        }
+    }
+
+    private static boolean isSameConfiguration(final Map<CType, SecurityDynamicConfiguration<?>> configuration,
+                                               final Map<CType, SecurityDynamicConfiguration<?>> other) {
+        if (configuration.size() != other.size()) {
+            return false;
+        }
+        //cached configurations are replaced on every reload, so an unchanged configuration is the same instance
+        return configuration.entrySet().stream().allMatch(e -> other.get(e.getKey()) == e.getValue());
+    }
+
+    private static <T> T doPrivileged(final PrivilegedExceptionAction<T> action) throws Exception {
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged(action);
+        } catch (PrivilegedActionException e) {
+            throw e.getException();
+        }
+    }
+
     private boolean createSecurityIndexIfAbsent() {
         try {
             final Map<String, Object> indexSettings = ImmutableMap.of(
@@ -300,10 +444,20 @@ public class ConfigurationRepository {
     private final Lock LOCK = new ReentrantLock();
 
     public void reloadConfiguration(Collection<CType> configTypes) throws ConfigUpdateAlreadyInProgressException {
+        reloadConfiguration(configTypes, Collections.emptyList());
+    }
+
+    /**
+     * Reloads the given config types, the configuration documents which were sent along with the config update
+     * are applied directly instead of reading them from the security index.
+     * Types without a payload, or with a payload which can not be parsed, are read from the index.
+     * The payloads are not checked against the index, callers must only pass payloads of trusted config requests.
+     */
+    public void reloadConfiguration(Collection<CType> configTypes, List<ConfigPayload> payloads) throws ConfigUpdateAlreadyInProgressException {
         try {
             if (LOCK.tryLock(60, TimeUnit.SECONDS)) {
                 try {
-                    reloadConfiguration0(configTypes, this.acceptInvalid);
+                    reloadConfiguration0(configTypes, payloads, this.acceptInvalid);
                 } finally {
                     LOCK.unlock();
                 }
@@ -317,10 +471,77 @@ public class ConfigurationRepository {
     }
 
 
-    private void reloadConfiguration0(Collection<CType> configTypes, boolean acceptInvalid) {
-        final Map<CType, SecurityDynamicConfiguration<?>> loaded = getConfigurationsFromIndex(configTypes, false, acceptInvalid);
-        configCache.putAll(loaded);
+    private void reloadConfiguration0(Collection<CType> configTypes, List<ConfigPayload> payloads, boolean acceptInvalid) {
+        final Map<CType, SecurityDynamicConfiguration<?>> loaded = new HashMap<>(configTypes.size());
+        final Set<CType> typesToLoad = new HashSet<>(configTypes);
+
+        for (ConfigPayload payload : payloads) {
+            final CType configType = CType.fromString(payload.getConfigType());
+            if (!typesToLoad.contains(configType)) {
+                continue;
+            }
+
+            final SecurityDynamicConfiguration<?> cached = configCache.getIfPresent(configType);
+            if (cached != null && (cached.getPrimaryTerm() > payload.getPrimaryTerm()
+                    || (cached.getPrimaryTerm() == payload.getPrimaryTerm() && cached.getSeqNo() >= payload.getSeqNo()))) {
+                //a concurrent update was applied already, the payload is outdated
+                LOGGER.debug("Ignoring outdated configuration update for {}", configType);
+                typesToLoad.remove(configType);
+                continue;
+            }
+
+            try {
+                loaded.put(configType, cl.load(configType, payload.getSource(), payload.getSeqNo(), payload.getPrimaryTerm(), acceptInvalid));
+                typesToLoad.remove(configType);
+            } catch (Exception e) {
+                LOGGER.warn("Unable to apply configuration update for {}, loading it from the index instead", configType, e);
+            }
+        }
+
+        if (!typesToLoad.isEmpty()) {
+            loaded.putAll(getConfigurationsFromIndex(typesToLoad, false, acceptInvalid));
+        }
+
+        if (loaded.isEmpty()) {
+            return;
+        }
+
+        cache(loaded);
+        if (typesToLoad.size() == CType.values().length) {
+            servingSnapshot.set(false);
+        }
         notifyAboutChanges(loaded);
+
+        if (snapshot != null && !servingSnapshot.get()) {
+            scheduleSnapshotWrite();
+        }
+    }
+
+    private void cache(final Map<CType, SecurityDynamicConfiguration<?>> loaded) {
+        try {
+            doPrivileged(() -> {
+                for (SecurityDynamicConfiguration<?> config : loaded.values()) {
+                    config.compact();
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            LOGGER.warn("Unable to compact configuration", e);
+        }
+
+        configCache.putAll(loaded);
+
+        if (LOGGER.isDebugEnabled()) {
+            for (Map.Entry<CType, SecurityDynamicConfiguration<?>> entry : loaded.entrySet()) {
+                try {
+                    final long bytes = doPrivileged(entry.getValue()::ramBytesUsed);
+                    LOGGER.debug("Configuration {} with {} entries uses about {} on the heap", entry.getKey(),
+                            entry.getValue().getCEntries().size(), new ByteSizeValue(bytes));
+                } catch (Exception e) {
+                    LOGGER.debug("Unable to estimate heap usage of configuration {}", entry.getKey(), e);
+                }
+            }
+        }
     }
 
     public synchronized void subscribeOnChange(ConfigurationChangeListener listener) {
@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+
+/**
+ * Local copy of the last configuration which was loaded from the security index.
+ *
+ * The snapshot contains every config type together with its config version, sequence number and primary term.
+ * It is written to a temporary file which is then moved over the previous snapshot, and it ends with a CRC32
+ * checksum of its content. A snapshot which is incomplete or fails the checksum is not loaded.
+ */
+final class ConfigurationSnapshot {
+
+    private static final int MAGIC = 0x53434653;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+
+    ConfigurationSnapshot(final Path file) {
+        this.file = file;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    void write(final Map<CType, SecurityDynamicConfiguration<?>> configuration) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(configuration.size());
+            for (Map.Entry<CType, SecurityDynamicConfiguration<?>> entry : configuration.entrySet()) {
+                final SecurityDynamicConfiguration<?> config = entry.getValue();
+                final byte[] json = DefaultObjectMapper.writeValueAsString(config, false).getBytes(StandardCharsets.UTF_8);
+                out.writeUTF(entry.getKey().toLCString());
+                out.writeInt(config.getVersion());
+                out.writeLong(config.getSeqNo());
+                out.writeLong(config.getPrimaryTerm());
+                out.writeInt(json.length);
+                out.write(json);
+            }
+            out.writeLong(checksum(bytes.toByteArray(), bytes.size()));
+        }
+
+        Files.createDirectories(file.getParent());
+        final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+        //the snapshot contains password hashes and resolved environment variables, so the file is only readable
+        //by the owner from the moment it is created. A leftover of an earlier write may have other permissions.
+        Files.deleteIfExists(tmpFile);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tmpFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(tmpFile);
+        }
+        Files.write(tmpFile, bytes.toByteArray());
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return null if there is no snapshot
+     * @throws IOException if the snapshot is corrupted or can not be read
+     */
+    Map<CType, SecurityDynamicConfiguration<?>> read(final boolean acceptInvalid) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        final byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length < Long.BYTES) {
+            throw new IOException("Configuration snapshot " + file + " is truncated");
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            in.skipBytes(bytes.length - Long.BYTES);
+            if (in.readLong() != checksum(bytes, bytes.length - Long.BYTES)) {
+                throw new IOException("Configuration snapshot " + file + " does not match its checksum");
+            }
+        }
+
+        final Map<CType, SecurityDynamicConfiguration<?>> configuration = new EnumMap<>(CType.class);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - Long.BYTES))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Configuration snapshot " + file + " has an unknown format");
+            }
+
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final CType configType = CType.fromString(in.readUTF());
+                final int version = in.readInt();
+                final long seqNo = in.readLong();
+                final long primaryTerm = in.readLong();
+                final byte[] json = new byte[in.readInt()];
+                in.readFully(json);
+                configuration.put(configType,
+                        SecurityDynamicConfiguration.fromJson(new String(json, StandardCharsets.UTF_8), configType, version, seqNo, primaryTerm, acceptInvalid));
+            }
+        }
+        return configuration;
+    }
+
+    private static long checksum(final byte[] bytes, final int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return crc.getValue();
+    }
+}
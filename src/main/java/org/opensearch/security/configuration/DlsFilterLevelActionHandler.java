@@ -40,6 +40,7 @@ import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollAction;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
@@ -76,7 +77,8 @@ public class DlsFilterLevelActionHandler {
 
     public static boolean handle(String action, ActionRequest request, ActionListener<?> listener, EvaluatedDlsFlsConfig evaluatedDlsFlsConfig,
                                  Resolved resolved, Client nodeClient, ClusterService clusterService, IndicesService indicesService,
-                                 IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, ThreadContext threadContext) {
+                                 IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, ThreadContext threadContext,
+                                 TermsLookupCache termsLookupCache) {
 
         if (threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_FILTER_LEVEL_DLS_DONE) != null) {
             return true;
@@ -102,7 +104,7 @@ public class DlsFilterLevelActionHandler {
         }
 
         return new DlsFilterLevelActionHandler(action, request, listener, evaluatedDlsFlsConfig, resolved, nodeClient, clusterService, indicesService,
-                resolver, dlsQueryParser, threadContext).handle();
+                resolver, dlsQueryParser, threadContext, termsLookupCache).handle();
     }
 
     private final String action;
@@ -117,12 +119,14 @@ public class DlsFilterLevelActionHandler {
     private final IndicesService indicesService;
     private final ThreadContext threadContext;
     private final IndexNameExpressionResolver resolver;
+    private final TermsLookupCache termsLookupCache;
     private BoolQueryBuilder filterLevelQueryBuilder;
     private DocumentAllowList documentWhitelist;
 
     DlsFilterLevelActionHandler(String action, ActionRequest request, ActionListener<?> listener, EvaluatedDlsFlsConfig evaluatedDlsFlsConfig,
                                 Resolved resolved, Client nodeClient, ClusterService clusterService, IndicesService indicesService,
-                                IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, ThreadContext threadContext) {
+                                IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, ThreadContext threadContext,
+                                TermsLookupCache termsLookupCache) {
         this.action = action;
         this.request = request;
         this.listener = listener;
@@ -134,6 +138,7 @@ public class DlsFilterLevelActionHandler {
         this.dlsQueryParser = dlsQueryParser;
         this.threadContext = threadContext;
         this.resolver = resolver;
+        this.termsLookupCache = termsLookupCache;
 
         this.requiresIndexScoping = resolved.isLocalAll() || resolved.getAllIndicesResolved(clusterService, resolver).size() != 1;
     }
@@ -145,7 +150,9 @@ public class DlsFilterLevelActionHandler {
             threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_FILTER_LEVEL_DLS_DONE, request.toString());
 
             try {
-                if (!createQueryExtension()) {
+                String localClusterAlias = request instanceof SearchRequest ? LOCAL_CLUSTER_ALIAS_GETTER.apply((SearchRequest) request) : null;
+
+                if (!createQueryExtension(localClusterAlias)) {
                     return true;
                 }
 
@@ -163,38 +170,56 @@ public class DlsFilterLevelActionHandler {
                 return true;
             }
 
-            if (request instanceof SearchRequest) {
-                return handle((SearchRequest) request, ctx);
-            } else if (request instanceof GetRequest) {
-                return handle((GetRequest) request, ctx);
-            } else if (request instanceof MultiGetRequest) {
-                return handle((MultiGetRequest) request, ctx);
-            } else if (request instanceof ClusterSearchShardsRequest) {
-                return handle((ClusterSearchShardsRequest) request, ctx);
-            } else {
-                log.error("Unsupported request type for filter level DLS: " + request);
-                listener.onFailure(new OpenSearchSecurityException(
-                        "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()));
-                return false;
+            if (termsLookupCache != null && termsLookupCache.isEnabled() && !documentWhitelist.isEmpty()) {
+                return resolveTermsLookups(ctx);
             }
+
+            return handle(ctx);
         }
     }
 
-    private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
-        if (documentWhitelist != null) {
-            documentWhitelist.applyTo(threadContext);
+    private boolean handle(StoredContext ctx) {
+        if (request instanceof SearchRequest) {
+            return handle((SearchRequest) request, ctx);
+        } else if (request instanceof GetRequest) {
+            return handle((GetRequest) request, ctx);
+        } else if (request instanceof MultiGetRequest) {
+            return handle((MultiGetRequest) request, ctx);
+        } else if (request instanceof ClusterSearchShardsRequest) {
+            return handle((ClusterSearchShardsRequest) request, ctx);
+        } else {
+            log.error("Unsupported request type for filter level DLS: " + request);
+            listener.onFailure(new OpenSearchSecurityException(
+                    "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()));
+            return false;
         }
+    }
 
-        String localClusterAlias = LOCAL_CLUSTER_ALIAS_GETTER.apply(searchRequest);
-
-        if (localClusterAlias != null) {
-            try {
-                createQueryExtension(localClusterAlias);
-            } catch (Exception e) {
-                log.error("Unable to handle filter level DLS", e);
-                listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
-                return false;
+    private boolean resolveTermsLookups(StoredContext ctx) {
+        ActionListener<QueryBuilder> resolvedListener = ActionListener.wrap((resolvedQuery) -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Resolved terms lookups of filterLevelQuery:\n" + resolvedQuery);
             }
+
+            // There are no terms lookups left, so the document allow list is not needed any more
+            this.filterLevelQueryBuilder = QueryBuilders.boolQuery().must(resolvedQuery);
+            this.documentWhitelist = null;
+
+            handle(ctx);
+        }, (e) -> {
+            log.error("Unable to resolve terms lookups for filter level DLS", e);
+            listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
+        });
+
+        termsLookupCache.resolve(filterLevelQueryBuilder,
+                new ContextPreservingActionListener<>(threadContext.newRestorableContext(false), resolvedListener));
+
+        return false;
+    }
+
+    private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
+        if (documentWhitelist != null) {
+            documentWhitelist.applyTo(threadContext);
         }
 
         if (searchRequest.source().query() != null) {
@@ -390,10 +415,6 @@ public class DlsFilterLevelActionHandler {
                 documentFields, metadataFields);
     }
 
-    private boolean createQueryExtension() throws IOException {
-        return createQueryExtension(null);
-    }
-
     private boolean createQueryExtension(String localClusterAlias) throws IOException {
         Map<String, Set<String>> filterLevelQueries = evaluatedDlsFlsConfig.getDlsQueriesByIndex();
 
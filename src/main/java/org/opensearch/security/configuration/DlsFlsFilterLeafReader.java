@@ -29,6 +29,9 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.opensearch.security.compliance.ComplianceConfig;
@@ -39,16 +42,14 @@ import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.Fields;
 import org.apache.lucene.index.FilterDirectoryReader;
-import org.apache.lucene.index.ImpactsEnum;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.PointValues;
-import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.StoredFieldVisitor;
-import org.apache.lucene.index.TermState;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -57,12 +58,10 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
-import org.apache.lucene.util.AttributeSource;
 import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
-import org.apache.lucene.util.automaton.CompiledAutomaton;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.bytes.BytesArray;
@@ -85,22 +84,26 @@ import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.MapUtils;
 import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.security.support.WildcardMatcher;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 
 class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
 
     private static final String KEYWORD = ".keyword";
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
-    private final Set<String> includesSet;
-    private final Set<String> excludesSet;
+    private static final Cache<Set<String>, FlsRules> flsRulesCache = CacheBuilder.newBuilder().maximumSize(1000)
+            .expireAfterAccess(1, TimeUnit.HOURS).build();
+    private static final Cache<FlsFieldInfosKey, FieldInfos> flsFieldInfosCache = CacheBuilder.newBuilder().maximumSize(10000)
+            .expireAfterAccess(1, TimeUnit.HOURS).build();
+    private static final Set<IndexReader.CacheKey> coresWithClosedListener = ConcurrentHashMap.newKeySet();
+    private final FlsRules flsRules;
     private final FieldInfos flsFieldInfos;
     private final boolean flsEnabled;
-    private String[] includes;
-    private String[] excludes;
-    private boolean canOptimize = true;
-    private Function<Map<String, ?>, Map<String, Object>> filterFunction;
     private final IndexService indexService;
     private final ThreadContext threadContext;
     private final ClusterService clusterService;
@@ -132,11 +135,73 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
         flsEnabled = includesExcludes != null && !includesExcludes.isEmpty();
 
         if (flsEnabled) {
+            this.flsRules = FlsRules.of(includesExcludes);
+            this.flsFieldInfos = getFlsFieldInfos(delegate, flsRules);
+        } else {
+            this.flsRules = null;
+            this.flsFieldInfos = null;
+        }
+
+        try {
+            dge = new DlsGetEvaluator(dlsQuery, in, applyDlsHere());
+        } catch (IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private static FieldInfos getFlsFieldInfos(final LeafReader reader, final FlsRules flsRules) {
+        final CacheHelper coreCacheHelper = reader.getCoreCacheHelper();
+
+        if (coreCacheHelper == null) {
+            return flsRules.filter(reader.getFieldInfos());
+        }
 
-            final FieldInfos infos = delegate.getFieldInfos();
+        final IndexReader.CacheKey coreKey = coreCacheHelper.getKey();
+
+        if (coresWithClosedListener.add(coreKey)) {
+            coreCacheHelper.addClosedListener(key -> {
+                coresWithClosedListener.remove(key);
+                flsFieldInfosCache.asMap().keySet().removeIf(k -> k.coreKey == key);
+            });
+        }
+
+        try {
+            final FieldInfos fieldInfos = reader.getFieldInfos();
+            return flsFieldInfosCache.get(new FlsFieldInfosKey(coreKey, fieldInfos, flsRules), () -> flsRules.filter(fieldInfos));
+        } catch (ExecutionException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    @VisibleForTesting
+    FlsRules getFlsRules() {
+        return flsRules;
+    }
+
+    @VisibleForTesting
+    static boolean hasCachedFieldInfos(final IndexReader.CacheKey coreKey) {
+        return flsFieldInfosCache.asMap().keySet().stream().anyMatch(k -> k.coreKey == coreKey);
+    }
+
+    /**
+     * The parsed FLS include/exclude rules of a role set. They do not depend on the segment,
+     * so they are cached and shared by all readers which are wrapped with the same rules.
+     */
+    static final class FlsRules {
+        private final Set<String> includesExcludes;
+        private final Set<String> includesSet;
+        private final Set<String> excludesSet;
+        private final boolean canOptimize;
+        private final WildcardMatcher matcher;
+        private final Function<Map<String, ?>, Map<String, Object>> filterFunction;
+
+        private FlsRules(final Set<String> includesExcludes) {
+            this.includesExcludes = includesExcludes;
             this.includesSet = new HashSet<>(includesExcludes.size());
             this.excludesSet = new HashSet<>(includesExcludes.size());
 
+            boolean canOptimize = true;
+
             for (final String incExc : includesExcludes) {
                 if (canOptimize && (incExc.indexOf('.') > -1 || incExc.indexOf('*') > -1)) {
                     canOptimize = false;
@@ -151,6 +216,32 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
                 }
             }
 
+            this.canOptimize = canOptimize;
+
+            if (canOptimize) {
+                this.matcher = null;
+                this.filterFunction = null;
+            } else if (!excludesSet.isEmpty()) {
+                this.matcher = WildcardMatcher.from(excludesSet);
+                this.filterFunction = XContentMapValues.filter(null, excludesSet.toArray(EMPTY_STRING_ARRAY));
+            } else {
+                this.matcher = WildcardMatcher.from(includesSet);
+                this.filterFunction = XContentMapValues.filter(includesSet.toArray(EMPTY_STRING_ARRAY), null);
+            }
+        }
+
+        static FlsRules of(final Set<String> includesExcludes) {
+            FlsRules flsRules = flsRulesCache.getIfPresent(includesExcludes);
+
+            if (flsRules == null) {
+                flsRules = new FlsRules(ImmutableSet.copyOf(includesExcludes));
+                flsRulesCache.put(flsRules.includesExcludes, flsRules);
+            }
+
+            return flsRules;
+        }
+
+        FieldInfos filter(final FieldInfos infos) {
             int i = 0;
             final FieldInfo[] fa = new FieldInfo[infos.size()];
 
@@ -171,49 +262,68 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
                 }
             } else {
                 if (!excludesSet.isEmpty()) {
-                    WildcardMatcher matcher = WildcardMatcher.from(excludesSet);
                     for (final FieldInfo info : infos) {
                         if (!matcher.test(info.name)) {
                             fa[i++] = info;
                         }
                     }
-
-                    this.excludes = excludesSet.toArray(EMPTY_STRING_ARRAY);
-
                 } else {
-                    WildcardMatcher matcher = WildcardMatcher.from(includesSet);
                     for (final FieldInfo info : infos) {
                         if (matcher.test(info.name)) {
                             fa[i++] = info;
                         }
                     }
-
-                    this.includes = includesSet.toArray(EMPTY_STRING_ARRAY);
-                }
-
-                if (!excludesSet.isEmpty()) {
-                    filterFunction = XContentMapValues.filter(null, excludes);
-                } else {
-                    filterFunction = XContentMapValues.filter(includes, null);
                 }
             }
 
             final FieldInfo[] tmp = new FieldInfo[i];
             System.arraycopy(fa, 0, tmp, 0, i);
-            this.flsFieldInfos = new FieldInfos(tmp);
+            return new FieldInfos(tmp);
+        }
 
+        Map<String, Object> filterSource(Map<String, Object> source) {
+            if (!canOptimize) {
+                return filterFunction.apply(source);
+            }
 
+            if (!excludesSet.isEmpty()) {
+                source.keySet().removeAll(excludesSet);
+            } else {
+                source.keySet().retainAll(includesSet);
+            }
 
-        } else {
-            this.includesSet = null;
-            this.excludesSet = null;
-            this.flsFieldInfos = null;
+            return source;
+        }
+    }
+
+    // Doc values updates (like soft deletes) can change the field infos of a segment without changing its core,
+    // so the field infos instance is part of the key as well
+    private static final class FlsFieldInfosKey {
+        private final IndexReader.CacheKey coreKey;
+        private final FieldInfos fieldInfos;
+        private final Set<String> includesExcludes;
+
+        private FlsFieldInfosKey(final IndexReader.CacheKey coreKey, final FieldInfos fieldInfos, final FlsRules flsRules) {
+            this.coreKey = coreKey;
+            this.fieldInfos = fieldInfos;
+            this.includesExcludes = flsRules.includesExcludes;
         }
 
-        try {
-            dge = new DlsGetEvaluator(dlsQuery, in, applyDlsHere());
-        } catch (IOException e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(coreKey) + System.identityHashCode(fieldInfos)) + includesExcludes.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FlsFieldInfosKey)) {
+                return false;
+            }
+            final FlsFieldInfosKey other = (FlsFieldInfosKey) obj;
+            return coreKey == other.coreKey && fieldInfos == other.fieldInfos && includesExcludes.equals(other.includesExcludes);
         }
     }
 
@@ -575,18 +685,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
         public void binaryField(final FieldInfo fieldInfo, final byte[] value) throws IOException {
 
             if (fieldInfo.name.equals("_source")) {
-                Map<String, Object> filteredSource = Utils.byteArrayToMutableJsonMap(value);
-
-                if (!canOptimize) {
-                    filteredSource = filterFunction.apply(filteredSource);
-                } else {
-                    if (!excludesSet.isEmpty()) {
-                        filteredSource.keySet().removeAll(excludesSet);
-                    } else {
-                        filteredSource.keySet().retainAll(includesSet);
-                    }
-                }
-
+                final Map<String, Object> filteredSource = flsRules.filterSource(Utils.byteArrayToMutableJsonMap(value));
                 delegate.binaryField(fieldInfo, Utils.jsonMapToByteArray(filteredSource));
             } else {
                 delegate.binaryField(fieldInfo, value);
@@ -853,7 +952,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
         return isFls(field) ? wrapSortedDocValues(field, in.getSortedDocValues(field)) : null;
     }
 
-    private SortedDocValues wrapSortedDocValues(final String field, final SortedDocValues sortedDocValues) {
+    private SortedDocValues wrapSortedDocValues(final String field, final SortedDocValues sortedDocValues) throws IOException {
 
         final MaskedFieldsMap maskedFieldsMap;
 
@@ -861,64 +960,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
             final MaskedField mf = maskedFieldsMap.getMaskedField(handleKeyword(field)).orElse(null);
 
             if (mf != null) {
-                return new SortedDocValues() {
-
-                    @Override
-                    public int lookupTerm(BytesRef key) throws IOException {
-                        return sortedDocValues.lookupTerm(key);
-                    }
-
-
-                    @Override
-                    public TermsEnum termsEnum() throws IOException {
-                        return new MaskedTermsEnum(sortedDocValues.termsEnum(), mf);
-                    }
-
-                    @Override
-                    public TermsEnum intersect(CompiledAutomaton automaton) throws IOException {
-                        return new MaskedTermsEnum(sortedDocValues.intersect(automaton), mf);
-                    }
-
-                    @Override
-                    public int nextDoc() throws IOException {
-                        return sortedDocValues.nextDoc();
-                    }
-
-                    @Override
-                    public int docID() {
-                        return sortedDocValues.docID();
-                    }
-
-                    @Override
-                    public long cost() {
-                        return sortedDocValues.cost();
-                    }
-
-                    @Override
-                    public int advance(int target) throws IOException {
-                        return sortedDocValues.advance(target);
-                    }
-
-                    @Override
-                    public boolean advanceExact(int target) throws IOException {
-                        return sortedDocValues.advanceExact(target);
-                    }
-
-                    @Override
-                    public int ordValue() throws IOException {
-                        return sortedDocValues.ordValue();
-                    }
-
-                    @Override
-                    public BytesRef lookupOrd(int ord) throws IOException {
-                        return mf.mask(sortedDocValues.lookupOrd(ord));
-                    }
-
-                    @Override
-                    public int getValueCount() {
-                        return sortedDocValues.getValueCount();
-                    }
-                };
+                return MaskedDocValuesDictionary.get(in, field, mf, sortedDocValues).wrap(sortedDocValues);
             }
         }
         return sortedDocValues;
@@ -934,7 +976,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
         return isFls(field) ? wrapSortedSetDocValues(field, in.getSortedSetDocValues(field)) : null;
     }
 
-    private SortedSetDocValues wrapSortedSetDocValues(final String field, final SortedSetDocValues sortedSetDocValues) {
+    private SortedSetDocValues wrapSortedSetDocValues(final String field, final SortedSetDocValues sortedSetDocValues) throws IOException {
 
         final MaskedFieldsMap maskedFieldsMap;
 
@@ -943,63 +985,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
             MaskedField mf = maskedFieldsMap.getMaskedField(handleKeyword(field)).orElse(null);
 
             if (mf != null) {
-                return new SortedSetDocValues() {
-
-                    @Override
-                    public long lookupTerm(BytesRef key) throws IOException {
-                        return sortedSetDocValues.lookupTerm(key);
-                    }
-
-                    @Override
-                    public TermsEnum termsEnum() throws IOException {
-                        return new MaskedTermsEnum(sortedSetDocValues.termsEnum(), mf);
-                    }
-
-                    @Override
-                    public TermsEnum intersect(CompiledAutomaton automaton) throws IOException {
-                        return new MaskedTermsEnum(sortedSetDocValues.intersect(automaton), mf);
-                    }
-
-                    @Override
-                    public int nextDoc() throws IOException {
-                        return sortedSetDocValues.nextDoc();
-                    }
-
-                    @Override
-                    public int docID() {
-                        return sortedSetDocValues.docID();
-                    }
-
-                    @Override
-                    public long cost() {
-                        return sortedSetDocValues.cost();
-                    }
-
-                    @Override
-                    public int advance(int target) throws IOException {
-                        return sortedSetDocValues.advance(target);
-                    }
-
-                    @Override
-                    public boolean advanceExact(int target) throws IOException {
-                        return sortedSetDocValues.advanceExact(target);
-                    }
-
-                    @Override
-                    public long nextOrd() throws IOException {
-                        return sortedSetDocValues.nextOrd();
-                    }
-
-                    @Override
-                    public BytesRef lookupOrd(long ord) throws IOException {
-                        return mf.mask(sortedSetDocValues.lookupOrd(ord));
-                    }
-
-                    @Override
-                    public long getValueCount() {
-                        return sortedSetDocValues.getValueCount();
-                    }
-                };
+                return MaskedDocValuesDictionary.get(in, field, mf, sortedSetDocValues).wrap(sortedSetDocValues);
             }
         }
         return sortedSetDocValues;
@@ -1165,85 +1151,6 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader  {
         return field;
     }
 
-    private static class MaskedTermsEnum extends TermsEnum {
-
-        private final TermsEnum delegate;
-        private final MaskedField mf;
-
-        public MaskedTermsEnum(TermsEnum delegate, MaskedField mf) {
-            super();
-            this.delegate = delegate;
-            this.mf = mf;
-        }
-
-        @Override
-        public BytesRef next() throws IOException {
-            return delegate.next(); //no masking here
-        }
-
-        @Override
-        public AttributeSource attributes() {
-            return delegate.attributes();
-        }
-
-        @Override
-        public boolean seekExact(BytesRef text) throws IOException {
-            return delegate.seekExact(text);
-        }
-
-        @Override
-        public SeekStatus seekCeil(BytesRef text) throws IOException {
-            return delegate.seekCeil(text);
-        }
-
-        @Override
-        public void seekExact(long ord) throws IOException {
-            delegate.seekExact(ord);
-        }
-
-        @Override
-        public void seekExact(BytesRef term, TermState state) throws IOException {
-            delegate.seekExact(term, state);
-        }
-
-        @Override
-        public BytesRef term() throws IOException {
-            return mf.mask(delegate.term());
-        }
-
-        @Override
-        public long ord() throws IOException {
-            return delegate.ord();
-        }
-
-        @Override
-        public int docFreq() throws IOException {
-            return delegate.docFreq();
-        }
-
-        @Override
-        public long totalTermFreq() throws IOException {
-            return delegate.totalTermFreq();
-        }
-
-        @Override
-        public PostingsEnum postings(PostingsEnum reuse, int flags) throws IOException {
-            return delegate.postings(reuse, flags);
-        }
-
-        @Override
-        public ImpactsEnum impacts(int flags) throws IOException {
-            return delegate.impacts(flags);
-        }
-
-        @Override
-        public TermState termState() throws IOException {
-            return delegate.termState();
-        }
-
-    }
-
-
     private String getRuntimeActionName() {
         return (String) threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_ACTION_NAME);
     }
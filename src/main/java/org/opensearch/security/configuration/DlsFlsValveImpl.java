@@ -74,6 +74,7 @@ import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.SecurityUtils;
+import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.threadpool.ThreadPool;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
@@ -81,6 +82,7 @@ import org.apache.logging.log4j.LogManager;
 public class DlsFlsValveImpl implements DlsFlsRequestValve {
 
 	private static final String MAP_EXECUTION_HINT = "map";
+	private static final String KEYWORD = ".keyword";
 	private static final Logger log = LogManager.getLogger(DlsFlsValveImpl.class);
 
     private final Client nodeClient;
@@ -89,9 +91,10 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
     private final Mode mode;
     private final DlsQueryParser dlsQueryParser;
     private final IndexNameExpressionResolver resolver;
+    private final TermsLookupCache termsLookupCache;
 
     public DlsFlsValveImpl(Settings settings, Client nodeClient, ClusterService clusterService, IndexNameExpressionResolver resolver,
-    		NamedXContentRegistry namedXContentRegistry, ThreadContext threadContext) {
+    		NamedXContentRegistry namedXContentRegistry, ThreadContext threadContext, TermsLookupCache termsLookupCache) {
         super();
         this.nodeClient = nodeClient;
         this.clusterService = clusterService;
@@ -99,6 +102,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         this.threadContext = threadContext;
         this.mode = Mode.get(settings);
         this.dlsQueryParser = new DlsQueryParser(namedXContentRegistry);
+        this.termsLookupCache = termsLookupCache;
     }
 
     /**
@@ -171,25 +175,16 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
 
             SearchRequest searchRequest = ((SearchRequest) request);
 
-            //When we encounter a terms or sampler aggregation with masked fields activated we forcibly
-            //need to switch off global ordinals because field masking can break ordering
+            //When we encounter a terms or sampler aggregation on a masked field we forcibly
+            //need to switch off global ordinals because the global ordinals are cached per shard and
+            //shared between users with different (or no) masking
             //https://www.elastic.co/guide/en/elasticsearch/reference/master/eager-global-ordinals.html#_avoiding_global_ordinal_loading
+            //Aggregations on fields which are not masked keep their execution hint
             if (evaluatedDlsFlsConfig.hasFieldMasking()) {
 
                 if (searchRequest.source() != null && searchRequest.source().aggregations() != null) {
-                    for (AggregationBuilder aggregationBuilder : searchRequest.source().aggregations().getAggregatorFactories()) {
-                        if (aggregationBuilder instanceof TermsAggregationBuilder) {
-                            ((TermsAggregationBuilder) aggregationBuilder).executionHint(MAP_EXECUTION_HINT);
-                        }
-
-                        if (aggregationBuilder instanceof SignificantTermsAggregationBuilder) {
-                            ((SignificantTermsAggregationBuilder) aggregationBuilder).executionHint(MAP_EXECUTION_HINT);
-                        }
-
-                        if (aggregationBuilder instanceof DiversifiedAggregationBuilder) {
-                            ((DiversifiedAggregationBuilder) aggregationBuilder).executionHint(MAP_EXECUTION_HINT);
-                        }
-                    }
+                    final WildcardMatcher maskedFieldsMatcher = getMaskedFieldsMatcher(evaluatedDlsFlsConfig);
+                    forceMapExecutionHintForMaskedFields(searchRequest.source().aggregations().getAggregatorFactories(), maskedFieldsMatcher);
                 }
             }
 
@@ -289,7 +284,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
 
         if (doFilterLevelDls && filteredDlsFlsConfig.hasDls()) {
             return DlsFilterLevelActionHandler.handle(action, request, listener, evaluatedDlsFlsConfig, resolved, nodeClient, clusterService,
-            		OpenSearchSecurityPlugin.GuiceHolder.getIndicesService(), resolver, dlsQueryParser, threadContext);
+            		OpenSearchSecurityPlugin.GuiceHolder.getIndicesService(), resolver, dlsQueryParser, threadContext, termsLookupCache);
         } else {
             return true;
         }
@@ -333,6 +328,58 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         }
     }
 
+    private static WildcardMatcher getMaskedFieldsMatcher(EvaluatedDlsFlsConfig evaluatedDlsFlsConfig) {
+        final Set<String> maskedFieldNames = new HashSet<>();
+
+        for (Set<String> maskedFields : evaluatedDlsFlsConfig.getFieldMaskingByIndex().values()) {
+            for (String maskedField : maskedFields) {
+                final int separator = maskedField.indexOf("::");
+                maskedFieldNames.add(separator == -1 ? maskedField : maskedField.substring(0, separator));
+            }
+        }
+
+        return WildcardMatcher.from(maskedFieldNames);
+    }
+
+    private static void forceMapExecutionHintForMaskedFields(Collection<AggregationBuilder> aggregationBuilders, WildcardMatcher maskedFieldsMatcher) {
+        for (AggregationBuilder aggregationBuilder : aggregationBuilders) {
+            if (aggregationBuilder instanceof TermsAggregationBuilder) {
+                if (isMaskedField(((TermsAggregationBuilder) aggregationBuilder).field(), maskedFieldsMatcher)) {
+                    ((TermsAggregationBuilder) aggregationBuilder).executionHint(MAP_EXECUTION_HINT);
+                }
+            }
+
+            if (aggregationBuilder instanceof SignificantTermsAggregationBuilder) {
+                if (isMaskedField(((SignificantTermsAggregationBuilder) aggregationBuilder).field(), maskedFieldsMatcher)) {
+                    ((SignificantTermsAggregationBuilder) aggregationBuilder).executionHint(MAP_EXECUTION_HINT);
+                }
+            }
+
+            if (aggregationBuilder instanceof DiversifiedAggregationBuilder) {
+                if (isMaskedField(((DiversifiedAggregationBuilder) aggregationBuilder).field(), maskedFieldsMatcher)) {
+                    ((DiversifiedAggregationBuilder) aggregationBuilder).executionHint(MAP_EXECUTION_HINT);
+                }
+            }
+
+            if (!aggregationBuilder.getSubAggregations().isEmpty()) {
+                forceMapExecutionHintForMaskedFields(aggregationBuilder.getSubAggregations(), maskedFieldsMatcher);
+            }
+        }
+    }
+
+    private static boolean isMaskedField(String field, WildcardMatcher maskedFieldsMatcher) {
+        if (field == null) {
+            //script based aggregations might access masked fields
+            return true;
+        }
+
+        if (field.endsWith(KEYWORD)) {
+            field = field.substring(0, field.length() - KEYWORD.length());
+        }
+
+        return maskedFieldsMatcher.test(field);
+    }
+
     @Override
     public void onQueryPhase(QuerySearchResult queryResult) {
         InternalAggregations aggregations = queryResult.aggregations().expand();
@@ -0,0 +1,323 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefHash;
+import org.opensearch.ExceptionsHelper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Sorted and de-duplicated dictionary of the masked terms of one doc values field in one segment,
+ * together with the mapping from the original segment ordinals to the ordinals of the masked terms.
+ *
+ * Masking does not preserve the order of the terms (and may map several terms onto the same value),
+ * so the doc values returned for masked fields can not simply reuse the original ordinals.
+ * The dictionary is built once per segment core, field and mask configuration and is cached until the segment is closed.
+ */
+final class MaskedDocValuesDictionary {
+
+    private static final Logger log = LogManager.getLogger(MaskedDocValuesDictionary.class);
+
+    private static final Cache<CacheKey, MaskedDocValuesDictionary> cache = CacheBuilder.newBuilder()
+            .maximumWeight(Runtime.getRuntime().maxMemory() / 20)
+            .weigher((CacheKey k, MaskedDocValuesDictionary v) -> (int) Math.min(Integer.MAX_VALUE, v.ramBytesUsed()))
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    private static final Set<IndexReader.CacheKey> coresWithClosedListener = ConcurrentHashMap.newKeySet();
+
+    private final BytesRefHash terms;
+    private final int[] sortedIds;
+    private final int[] ordMapping;
+
+    private MaskedDocValuesDictionary(final BytesRefHash terms, final int[] sortedIds, final int[] ordMapping) {
+        this.terms = terms;
+        this.sortedIds = sortedIds;
+        this.ordMapping = ordMapping;
+    }
+
+    static MaskedDocValuesDictionary get(final LeafReader reader, final String field, final MaskedField mf, final SortedDocValues values)
+            throws IOException {
+        return get(reader, field, mf, values.getValueCount(), values::termsEnum);
+    }
+
+    static MaskedDocValuesDictionary get(final LeafReader reader, final String field, final MaskedField mf, final SortedSetDocValues values)
+            throws IOException {
+        return get(reader, field, mf, values.getValueCount(), values::termsEnum);
+    }
+
+    private static MaskedDocValuesDictionary get(final LeafReader reader, final String field, final MaskedField mf,
+            final long valueCount, final TermsEnumSupplier termsEnumSupplier) throws IOException {
+
+        final IndexReader.CacheHelper coreCacheHelper = reader.getCoreCacheHelper();
+
+        if (coreCacheHelper == null) {
+            return build(mf, valueCount, termsEnumSupplier.get());
+        }
+
+        final IndexReader.CacheKey coreKey = coreCacheHelper.getKey();
+
+        if (coresWithClosedListener.add(coreKey)) {
+            coreCacheHelper.addClosedListener(MaskedDocValuesDictionary::invalidate);
+        }
+
+        try {
+            return cache.get(new CacheKey(coreKey, field, mf), () -> build(mf, valueCount, termsEnumSupplier.get()));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private static void invalidate(final IndexReader.CacheKey coreKey) {
+        coresWithClosedListener.remove(coreKey);
+        cache.asMap().keySet().removeIf(k -> k.coreKey == coreKey);
+    }
+
+    static MaskedDocValuesDictionary build(final MaskedField mf, final long valueCount, final TermsEnum originalTerms) throws IOException {
+        final long start = System.nanoTime();
+        final BytesRefHash terms = new BytesRefHash();
+        final int[] ordMapping = new int[Math.toIntExact(valueCount)];
+
+        int ord = 0;
+        for (BytesRef term = originalTerms.next(); term != null; term = originalTerms.next()) {
+            final int id = terms.add(mf.mask(term));
+            ordMapping[ord++] = id < 0 ? -id - 1 : id;
+        }
+
+        final int[] sortedIds = Arrays.copyOf(terms.sort(), terms.size());
+        final int[] idToMaskedOrd = new int[sortedIds.length];
+
+        for (int i = 0; i < sortedIds.length; i++) {
+            idToMaskedOrd[sortedIds[i]] = i;
+        }
+
+        for (int i = 0; i < ord; i++) {
+            ordMapping[i] = idToMaskedOrd[ordMapping[i]];
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Built masked dictionary for {} ({} terms -> {} masked terms) in {} ms", mf.getName(), ord, sortedIds.length,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        return new MaskedDocValuesDictionary(terms, sortedIds, ordMapping);
+    }
+
+    int getValueCount() {
+        return sortedIds.length;
+    }
+
+    int maskedOrd(final long originalOrd) {
+        return ordMapping[(int) originalOrd];
+    }
+
+    BytesRef lookupOrd(final int maskedOrd, final BytesRef scratch) {
+        return terms.get(sortedIds[maskedOrd], scratch);
+    }
+
+    long ramBytesUsed() {
+        return terms.ramBytesUsed() + 4L * sortedIds.length + 4L * ordMapping.length;
+    }
+
+    SortedDocValues wrap(final SortedDocValues sortedDocValues) {
+        return new SortedDocValues() {
+
+            private final BytesRef scratch = new BytesRef();
+
+            @Override
+            public int ordValue() throws IOException {
+                return maskedOrd(sortedDocValues.ordValue());
+            }
+
+            @Override
+            public BytesRef lookupOrd(int ord) throws IOException {
+                return MaskedDocValuesDictionary.this.lookupOrd(ord, scratch);
+            }
+
+            @Override
+            public int getValueCount() {
+                return MaskedDocValuesDictionary.this.getValueCount();
+            }
+
+            @Override
+            public boolean advanceExact(int target) throws IOException {
+                return sortedDocValues.advanceExact(target);
+            }
+
+            @Override
+            public int docID() {
+                return sortedDocValues.docID();
+            }
+
+            @Override
+            public int nextDoc() throws IOException {
+                return sortedDocValues.nextDoc();
+            }
+
+            @Override
+            public int advance(int target) throws IOException {
+                return sortedDocValues.advance(target);
+            }
+
+            @Override
+            public long cost() {
+                return sortedDocValues.cost();
+            }
+        };
+    }
+
+    SortedSetDocValues wrap(final SortedSetDocValues sortedSetDocValues) {
+        return new SortedSetDocValues() {
+
+            private final BytesRef scratch = new BytesRef();
+            private long[] ords = new long[8];
+            private int ordCount;
+            private int ordUpto;
+
+            //the masked ordinals of a document must be returned in ascending order and without duplicates,
+            //so we collect and sort them whenever the iterator is positioned on a document
+            private int collectOrds(int doc) throws IOException {
+                ordCount = 0;
+                ordUpto = 0;
+
+                if (doc == NO_MORE_DOCS) {
+                    return doc;
+                }
+
+                for (long ord = sortedSetDocValues.nextOrd(); ord != NO_MORE_ORDS; ord = sortedSetDocValues.nextOrd()) {
+                    if (ordCount == ords.length) {
+                        ords = Arrays.copyOf(ords, ordCount * 2);
+                    }
+                    ords[ordCount++] = maskedOrd(ord);
+                }
+
+                if (ordCount > 1) {
+                    Arrays.sort(ords, 0, ordCount);
+                    int unique = 1;
+                    for (int i = 1; i < ordCount; i++) {
+                        if (ords[i] != ords[unique - 1]) {
+                            ords[unique++] = ords[i];
+                        }
+                    }
+                    ordCount = unique;
+                }
+
+                return doc;
+            }
+
+            @Override
+            public long nextOrd() throws IOException {
+                return ordUpto < ordCount ? ords[ordUpto++] : NO_MORE_ORDS;
+            }
+
+            @Override
+            public BytesRef lookupOrd(long ord) throws IOException {
+                return MaskedDocValuesDictionary.this.lookupOrd(Math.toIntExact(ord), scratch);
+            }
+
+            @Override
+            public long getValueCount() {
+                return MaskedDocValuesDictionary.this.getValueCount();
+            }
+
+            @Override
+            public boolean advanceExact(int target) throws IOException {
+                if (sortedSetDocValues.advanceExact(target)) {
+                    collectOrds(target);
+                    return true;
+                }
+                ordCount = 0;
+                ordUpto = 0;
+                return false;
+            }
+
+            @Override
+            public int docID() {
+                return sortedSetDocValues.docID();
+            }
+
+            @Override
+            public int nextDoc() throws IOException {
+                return collectOrds(sortedSetDocValues.nextDoc());
+            }
+
+            @Override
+            public int advance(int target) throws IOException {
+                return collectOrds(sortedSetDocValues.advance(target));
+            }
+
+            @Override
+            public long cost() {
+                return sortedSetDocValues.cost();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface TermsEnumSupplier {
+        TermsEnum get() throws IOException;
+    }
+
+    private static final class CacheKey {
+        private final IndexReader.CacheKey coreKey;
+        private final String field;
+        private final MaskedField maskedField;
+
+        private CacheKey(final IndexReader.CacheKey coreKey, final String field, final MaskedField maskedField) {
+            this.coreKey = coreKey;
+            this.field = field;
+            this.maskedField = maskedField;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(coreKey), field, maskedField);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return coreKey == other.coreKey && field.equals(other.field) && maskedField.equals(other.maskedField);
+        }
+    }
+}
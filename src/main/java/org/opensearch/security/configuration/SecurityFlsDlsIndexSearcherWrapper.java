@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.LongSupplier;
 
 import org.opensearch.security.privileges.PrivilegesEvaluator;
@@ -27,6 +28,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.mapper.IgnoredFieldMapper;
@@ -39,6 +41,9 @@ import org.opensearch.security.compliance.ComplianceIndexingOperationListener;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 
 public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWrapper {
@@ -55,6 +60,9 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWra
     private final LongSupplier nowInMillis;
     private final DlsQueryParser dlsQueryParser;
     private final Salt salt;
+    private final Cache<Tuple<Long, Set<String>>, Query> dlsQueryCache = CacheBuilder.newBuilder().maximumSize(1000)
+            .expireAfterAccess(1, TimeUnit.HOURS).build();
+    private volatile long dlsQueryCacheMappingVersion = -1;
 
     public SecurityFlsDlsIndexSearcherWrapper(final IndexService indexService, final Settings settings,
                                               final AdminDNs adminDNs, final ClusterService clusterService, final AuditLog auditlog,
@@ -106,10 +114,7 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWra
                 Set<String> unparsedDlsQueries = queries.get(dlsEval);
 
                 if (unparsedDlsQueries != null && !unparsedDlsQueries.isEmpty()) {
-                    QueryShardContext queryShardContext = this.indexService.newQueryShardContext(shardId.getId(), null, nowInMillis, null);
-                    // no need for scoring here, so its possible to wrap this in a
-                    // ConstantScoreQuery
-                    dlsQuery = new ConstantScoreQuery(dlsQueryParser.parse(unparsedDlsQueries, queryShardContext).build());
+                    dlsQuery = getDlsQuery(unparsedDlsQueries, shardId);
                 }
             }
 
@@ -122,4 +127,33 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWra
         return new DlsFlsFilterLeafReader.DlsFlsDirectoryReader(reader, flsFields, dlsQuery,
                 indexService, threadContext, clusterService, auditlog, maskedFields, shardId, salt);
     }
+
+    @VisibleForTesting
+    Query getDlsQuery(final Set<String> unparsedDlsQueries, final ShardId shardId) {
+        //the built query depends on the mappings, so the mapping version is part of the cache key
+        //and the cache is cleared once the mappings of the index change
+        final long mappingVersion = indexService.getMetadata().getMappingVersion();
+
+        if (mappingVersion != dlsQueryCacheMappingVersion) {
+            dlsQueryCache.invalidateAll();
+            dlsQueryCacheMappingVersion = mappingVersion;
+        }
+
+        final Tuple<Long, Set<String>> cacheKey = new Tuple<>(mappingVersion, unparsedDlsQueries);
+        Query dlsQuery = dlsQueryCache.getIfPresent(cacheKey);
+
+        if (dlsQuery == null) {
+            final QueryShardContext queryShardContext = this.indexService.newQueryShardContext(shardId.getId(), null, nowInMillis, null);
+            // no need for scoring here, so its possible to wrap this in a
+            // ConstantScoreQuery
+            dlsQuery = new ConstantScoreQuery(dlsQueryParser.parse(unparsedDlsQueries, queryShardContext).build());
+
+            //queries which depend on the current time (only possible if 'now' is allowed in DLS queries) are not cacheable
+            if (queryShardContext.isCacheable()) {
+                dlsQueryCache.put(cacheKey, dlsQuery);
+            }
+        }
+
+        return dlsQuery;
+    }
 }
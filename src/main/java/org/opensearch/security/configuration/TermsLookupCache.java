@@ -0,0 +1,220 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.get.GetAction;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.client.Client;
+import org.opensearch.client.FilterClient;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.Rewriteable;
+import org.opensearch.index.shard.IndexingOperationListener;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.security.support.ConfigConstants;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the documents fetched by terms lookup queries (TLQ) in filter-level DLS queries.
+ *
+ * Filter-level DLS only resolves the terms lookups of the DLS queries itself if the lookup documents may be fetched
+ * without the privileges of the user ({@link ConfigConstants#SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES}).
+ * Like the DLS queries which reference them, the lookup documents are then treated as part of the security configuration:
+ * they are fetched as a configuration request and are not restricted by the privileges of the user or the DLS and FLS
+ * of the lookup index. Otherwise the lookups are left to the search and are executed with the permissions of the user.
+ *
+ * Because fetched lookup documents do not depend on the user, they can be shared by all users. They are kept for the
+ * configured TTL and are evicted earlier when they are written on this node. Writes to lookup documents on other nodes
+ * are only seen after the TTL expired, so the TTL is the upper bound for the time a changed lookup document might not
+ * yet be reflected in the DLS restrictions. The cache is disabled by default.
+ */
+public class TermsLookupCache implements IndexingOperationListener {
+
+    private static final Logger log = LogManager.getLogger(TermsLookupCache.class);
+
+    //keyed by index and id only, so that a write can invalidate the document without knowing its routing
+    private final Cache<Key, CachedResponse> cache;
+    private final Client client;
+    private final NamedXContentRegistry xContentRegistry;
+    private final NamedWriteableRegistry writeableRegistry;
+
+    public TermsLookupCache(final Settings settings, final Client nodeClient, final NamedXContentRegistry xContentRegistry,
+            final NamedWriteableRegistry writeableRegistry) {
+        final boolean bypassLookupIndexPrivileges = settings.getAsBoolean(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES, false);
+        final int ttlInSeconds = settings.getAsInt(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 0);
+
+        if (bypassLookupIndexPrivileges && ttlInSeconds > 0) {
+            this.cache = CacheBuilder.newBuilder().expireAfterWrite(ttlInSeconds, TimeUnit.SECONDS)
+                    .maximumSize(settings.getAsInt(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_ENTRIES, 1000)).build();
+            log.info("Terms lookup cache for filter-level DLS enabled with a TTL of {} seconds", ttlInSeconds);
+        } else {
+            if (ttlInSeconds > 0) {
+                log.warn("{} is ignored, lookup documents are only cached if {} is enabled", ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS,
+                        ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES);
+            }
+            this.cache = null;
+        }
+
+        this.client = bypassLookupIndexPrivileges ? new ConfigRequestClient(nodeClient) : null;
+        this.xContentRegistry = xContentRegistry;
+        this.writeableRegistry = writeableRegistry;
+    }
+
+    /**
+     * @return true if filter-level DLS resolves terms lookups itself
+     */
+    public boolean isEnabled() {
+        return client != null;
+    }
+
+    /**
+     * @return true if fetched lookup documents are cached
+     */
+    public boolean isCacheEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Replaces all terms lookup queries in the given query by terms queries with the looked up terms.
+     */
+    public void resolve(final QueryBuilder queryBuilder, final ActionListener<QueryBuilder> listener) {
+        final QueryRewriteContext rewriteContext = new QueryRewriteContext(xContentRegistry, writeableRegistry, client, System::currentTimeMillis);
+        Rewriteable.rewriteAndFetch(queryBuilder, rewriteContext, listener);
+    }
+
+    /**
+     * Called for every write on this node
+     */
+    public void invalidate(final String index, final String id) {
+        if (cache != null) {
+            cache.invalidate(new Key(index, id));
+        }
+    }
+
+    @Override
+    public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
+        invalidate(shardId.getIndexName(), index.id());
+    }
+
+    @Override
+    public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
+        invalidate(shardId.getIndexName(), delete.id());
+    }
+
+    private class ConfigRequestClient extends FilterClient {
+
+        ConfigRequestClient(Client in) {
+            super(in);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(ActionType<Response> action, Request request,
+                ActionListener<Response> listener) {
+
+            if (action != GetAction.INSTANCE) {
+                super.doExecute(action, request, listener);
+                return;
+            }
+
+            final GetRequest getRequest = (GetRequest) request;
+            final Key key = new Key(getRequest.index(), getRequest.id());
+            final CachedResponse cachedResponse = cache != null ? cache.getIfPresent(key) : null;
+
+            if (cachedResponse != null && Objects.equals(cachedResponse.routing, getRequest.routing())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Using cached terms lookup document {}", key);
+                }
+                listener.onResponse((Response) cachedResponse.response);
+                return;
+            }
+
+            final ThreadContext threadContext = threadPool().getThreadContext();
+            final Supplier<StoredContext> callerContext = threadContext.newRestorableContext(false);
+            try (StoredContext ignore = threadContext.stashContext()) {
+                threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+                super.doExecute(action, request, new ContextPreservingActionListener<>(callerContext, ActionListener.wrap(response -> {
+                    if (cache != null) {
+                        cache.put(key, new CachedResponse(getRequest.routing(), (GetResponse) response));
+                    }
+                    listener.onResponse(response);
+                }, listener::onFailure)));
+            }
+        }
+    }
+
+    private static final class CachedResponse {
+        private final String routing;
+        private final GetResponse response;
+
+        private CachedResponse(final String routing, final GetResponse response) {
+            this.routing = routing;
+            this.response = response;
+        }
+    }
+
+    private static final class Key {
+        private final String index;
+        private final String id;
+
+        private Key(final String index, final String id) {
+            this.index = index;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, id);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return index.equals(other.index) && id.equals(other.id);
+        }
+
+        @Override
+        public String toString() {
+            return index + "/" + id;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 import org.opensearch.security.DefaultObjectMapper;
 import org.apache.logging.log4j.Logger;
@@ -34,6 +36,8 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -49,6 +53,7 @@ import org.opensearch.rest.RestRequest.Method;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.security.action.configupdate.ConfigUpdateAction;
 import org.opensearch.security.action.configupdate.ConfigUpdateNodeResponse;
+import org.opensearch.security.action.configupdate.ConfigPayload;
 import org.opensearch.security.action.configupdate.ConfigUpdateRequest;
 import org.opensearch.security.action.configupdate.ConfigUpdateResponse;
 import org.opensearch.security.auditlog.AuditLog;
@@ -73,6 +78,9 @@ import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 public abstract class AbstractApiAction extends BaseRestHandler {
 
 	protected final Logger log = LogManager.getLogger(this.getClass());
+	private static final int MAX_ENTITY_UPDATE_RETRIES = 10;
+	private static final long ENTITY_UPDATE_RETRY_DELAY_MS = 25;
+	private static final long ENTITY_UPDATE_MAX_RETRY_DELAY_MS = 1000;
 
 	protected final ConfigurationRepository cl;
 	protected final ClusterService cs;
@@ -139,6 +147,10 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 	}
 
 	protected void handleDelete(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+		delete(channel, request, client, 0);
+	}
+
+	private void delete(final RestChannel channel, final RestRequest request, final Client client, final int attempt) throws IOException {
 		final String name = request.param("name");
 
 		if (name == null || name.length() == 0) {
@@ -156,7 +168,8 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 		existingConfiguration.remove(name);
 
 		if (existed) {
-			saveAnUpdateConfigs(client, request, getConfigName(), existingConfiguration, new OnSucessActionListener<IndexResponse>(channel) {
+			saveAnUpdateConfigs(client, request, getConfigName(), existingConfiguration,
+					new OnSucessActionListener<IndexResponse>(channel, attempt, next -> delete(channel, request, client, next)) {
 
 				@Override
 				public void onResponse(IndexResponse response) {
@@ -170,6 +183,10 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 	}
 
 	protected void handlePut(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+		put(channel, request, client, content, 0);
+	}
+
+	private void put(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content, final int attempt) throws IOException {
 
 		final String name = request.param("name");
 
@@ -201,7 +218,8 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 		boolean existed = existingConfiguration.exists(name);
 		existingConfiguration.putCObject(name, DefaultObjectMapper.readTree(content, existingConfiguration.getImplementingClass()));
 
-		saveAnUpdateConfigs(client, request, getConfigName(), existingConfiguration, new OnSucessActionListener<IndexResponse>(channel) {
+		saveAnUpdateConfigs(client, request, getConfigName(), existingConfiguration,
+				new OnSucessActionListener<IndexResponse>(channel, attempt, next -> put(channel, request, client, content, next)) {
 
 			@Override
 			public void onResponse(IndexResponse response) {
@@ -216,6 +234,15 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 
 	}
 
+	/**
+	 * Applies an update of single entities again to the current configuration if the configuration was changed concurrently.
+	 * Updates of different entities of the same config type do not conflict with each other this way.
+	 */
+	@FunctionalInterface
+	protected interface EntityUpdate {
+		void apply(int attempt) throws IOException;
+	}
+
 	protected void handlePost(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
 		notImplemented(channel, Method.POST);
 	}
@@ -284,21 +311,64 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 	abstract class OnSucessActionListener<Response> implements ActionListener<Response> {
 
 		private final RestChannel channel;
+		private final int attempt;
+		private final EntityUpdate retry;
+		private final Supplier<StoredContext> context;
 
 		public OnSucessActionListener(RestChannel channel) {
+			this(channel, 0, null);
+		}
+
+		/**
+		 * @param attempt the number of the current attempt, starting with 0
+		 * @param retry called with the number of the next attempt on a version conflict instead of responding with a conflict
+		 */
+		public OnSucessActionListener(RestChannel channel, int attempt, EntityUpdate retry) {
 			super();
 			this.channel = channel;
+			this.attempt = attempt;
+			this.retry = retry;
+			//the response may be handled in another context, the retry needs the one of the REST request
+			this.context = retry == null ? null : threadPool.getThreadContext().newRestorableContext(false);
 		}
 
 		@Override
 		public final void onFailure(Exception e) {
 			if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
-				conflict(channel, e.getMessage());
+				if (!retry()) {
+					conflict(channel, e.getMessage());
+				}
 			} else {
 				internalErrorResponse(channel, "Error "+e.getMessage());
 			}
 		}
 
+		private boolean retry() {
+			if (retry == null || attempt >= MAX_ENTITY_UPDATE_RETRIES) {
+				return false;
+			}
+
+			//exponential backoff with jitter, so that concurrent writers of the same config type do not collide again right away
+			final long backoffMs = Math.min(ENTITY_UPDATE_MAX_RETRY_DELAY_MS, ENTITY_UPDATE_RETRY_DELAY_MS << attempt);
+			final long delay = backoffMs / 2 + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1);
+
+			//do not block the thread which completed the index request
+			try {
+				threadPool.schedule(() -> {
+					try (StoredContext ignore = context.get()) {
+						retry.apply(attempt + 1);
+					} catch (Exception e) {
+						log.error("Error retrying update of {}", getResourceName(), e);
+						internalErrorResponse(channel, "Error "+e.getMessage());
+					}
+				}, TimeValue.timeValueMillis(delay), ThreadPool.Names.GENERIC);
+			} catch (OpenSearchRejectedExecutionException e) {
+				//the node is shutting down
+				return false;
+			}
+			return true;
+		}
+
 	}
 
 	protected void saveAnUpdateConfigs(final Client client, final RestRequest request, final CType cType,
@@ -311,12 +381,13 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 		configuration.removeStatic();
 
 		try {
+			final BytesReference source = XContentHelper.toXContent(configuration, XContentType.JSON, false);
 			client.index(ir.id(id)
 							.setRefreshPolicy(RefreshPolicy.IMMEDIATE)
 							.setIfSeqNo(configuration.getSeqNo())
 							.setIfPrimaryTerm(configuration.getPrimaryTerm())
-							.source(id, XContentHelper.toXContent(configuration, XContentType.JSON, false)),
-					new ConfigUpdatingActionListener<>(new String[]{id}, client, actionListener));
+							.source(id, source),
+					new ConfigUpdatingActionListener<>(new String[]{id}, client, actionListener, source));
 		} catch (IOException e) {
 			throw ExceptionsHelper.convertToOpenSearchException(e);
 		}
@@ -326,11 +397,18 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 		private final String[] cTypes;
 		private final Client client;
 		private final ActionListener<Response> delegate;
+		//the indexed source of a single config type, sent to all nodes so they do not need to read it from the index
+		private final BytesReference source;
 
 		public ConfigUpdatingActionListener(String[] cTypes, Client client, ActionListener<Response> delegate) {
+			this(cTypes, client, delegate, null);
+		}
+
+		public ConfigUpdatingActionListener(String[] cTypes, Client client, ActionListener<Response> delegate, BytesReference source) {
 			this.cTypes = Objects.requireNonNull(cTypes, "cTypes must not be null");
 			this.client = Objects.requireNonNull(client, "client must not be null");
 			this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+			this.source = source;
 		}
 
 		@Override
@@ -338,6 +416,15 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 
 			final ConfigUpdateRequest cur = new ConfigUpdateRequest(cTypes);
 
+			if (source != null && cTypes.length == 1 && response instanceof IndexResponse) {
+				final IndexResponse indexResponse = (IndexResponse) response;
+				try {
+					cur.setPayloads(Collections.singletonList(new ConfigPayload(cTypes[0], indexResponse.getSeqNo(), indexResponse.getPrimaryTerm(), source)));
+				} catch (IOException e) {
+					//nodes read the configuration from the index instead
+				}
+			}
+
 			client.execute(ConfigUpdateAction.INSTANCE, cur, new ActionListener<ConfigUpdateResponse>() {
 				@Override
 				public void onResponse(final ConfigUpdateResponse ur) {
@@ -88,6 +88,10 @@ public class InternalUsersApiAction extends PatchableResourceApiAction {
 
     @Override
     protected void handlePut(RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+        put(channel, request, client, content, 0);
+    }
+
+    private void put(RestChannel channel, final RestRequest request, final Client client, final JsonNode content, final int attempt) throws IOException {
 
         final String username = request.param("name");
 
@@ -105,7 +109,8 @@ public class InternalUsersApiAction extends PatchableResourceApiAction {
             return;
         }
 
-        final ObjectNode contentAsNode = (ObjectNode) content;
+        //the content is modified below, a retry has to start from the original request
+        final ObjectNode contentAsNode = ((ObjectNode) content).deepCopy();
         final SecurityJsonNode securityJsonNode = new SecurityJsonNode(contentAsNode);
 
         // Don't allow user to add non-existent role or a role for which role-mapping is hidden or reserved
@@ -156,7 +161,8 @@ public class InternalUsersApiAction extends PatchableResourceApiAction {
         // checks complete, create or update the user
         internalUsersConfiguration.putCObject(username, DefaultObjectMapper.readTree(contentAsNode,  internalUsersConfiguration.getImplementingClass()));
 
-        saveAnUpdateConfigs(client, request, CType.INTERNALUSERS, internalUsersConfiguration, new OnSucessActionListener<IndexResponse>(channel) {
+        saveAnUpdateConfigs(client, request, CType.INTERNALUSERS, internalUsersConfiguration,
+                new OnSucessActionListener<IndexResponse>(channel, attempt, next -> put(channel, request, client, content, next)) {
 
             @Override
             public void onResponse(IndexResponse response) {
@@ -63,7 +63,7 @@ public abstract class PatchableResourceApiAction extends AbstractApiAction {
                 auditLog);
     }
 
-    private void handlePatch(RestChannel channel, final RestRequest request, final Client client)
+    private void handlePatch(RestChannel channel, final RestRequest request, final Client client, final int attempt)
             throws IOException  {
         if (request.getXContentType() != XContentType.JSON) {
             badRequestResponse(channel, "PATCH accepts only application/json");
@@ -98,14 +98,14 @@ public abstract class PatchableResourceApiAction extends AbstractApiAction {
         ObjectNode existingAsObjectNode = (ObjectNode) existingAsJsonNode;
 
         if (Strings.isNullOrEmpty(name)) {
-            handleBulkPatch(channel, request, client, existingConfiguration, existingAsObjectNode, jsonPatch);
+            handleBulkPatch(channel, request, client, existingConfiguration, existingAsObjectNode, jsonPatch, attempt);
         } else {
-            handleSinglePatch(channel, request, client, name, existingConfiguration, existingAsObjectNode, jsonPatch);
+            handleSinglePatch(channel, request, client, name, existingConfiguration, existingAsObjectNode, jsonPatch, attempt);
         }
     }
 
     private void handleSinglePatch(RestChannel channel, RestRequest request, Client client, String name,
-            SecurityDynamicConfiguration<?> existingConfiguration, ObjectNode existingAsObjectNode, JsonNode jsonPatch) throws IOException {
+            SecurityDynamicConfiguration<?> existingConfiguration, ObjectNode existingAsObjectNode, JsonNode jsonPatch, int attempt) throws IOException {
         if (!isWriteable(channel, existingConfiguration, name)) {
             return;
         }
@@ -151,12 +151,17 @@ public abstract class PatchableResourceApiAction extends AbstractApiAction {
             return;
         }
 
-        JsonNode updatedAsJsonNode = existingAsObjectNode.deepCopy().set(name, patchedResourceAsJsonNode);
+        //only the patched resource changes, the other resources are shared with the existing tree
+        ObjectNode updatedAsJsonNode = existingAsObjectNode.objectNode();
+        updatedAsJsonNode.setAll(existingAsObjectNode);
+        updatedAsJsonNode.set(name, patchedResourceAsJsonNode);
 
         SecurityDynamicConfiguration<?> mdc = SecurityDynamicConfiguration.fromNode(updatedAsJsonNode, existingConfiguration.getCType()
                                    , existingConfiguration.getVersion(), existingConfiguration.getSeqNo(), existingConfiguration.getPrimaryTerm());
 
-        saveAnUpdateConfigs(client, request, getConfigName(), mdc, new OnSucessActionListener<IndexResponse>(channel){
+        //a concurrent change of the configuration is retried by applying the patch to the current configuration again
+        saveAnUpdateConfigs(client, request, getConfigName(), mdc,
+                new OnSucessActionListener<IndexResponse>(channel, attempt, next -> handlePatch(channel, request, client, next)){
 
             @Override
             public void onResponse(IndexResponse response) {
@@ -167,7 +172,7 @@ public abstract class PatchableResourceApiAction extends AbstractApiAction {
     }
 
     private void handleBulkPatch(RestChannel channel, RestRequest request, Client client,
-            SecurityDynamicConfiguration<?> existingConfiguration, ObjectNode existingAsObjectNode, JsonNode jsonPatch) throws IOException {
+            SecurityDynamicConfiguration<?> existingConfiguration, ObjectNode existingAsObjectNode, JsonNode jsonPatch, int attempt) throws IOException {
 
         JsonNode patchedAsJsonNode;
 
@@ -224,7 +229,8 @@ public abstract class PatchableResourceApiAction extends AbstractApiAction {
         SecurityDynamicConfiguration<?> mdc = SecurityDynamicConfiguration.fromNode(patchedAsJsonNode, existingConfiguration.getCType()
                                     , existingConfiguration.getVersion(), existingConfiguration.getSeqNo(), existingConfiguration.getPrimaryTerm());
 
-        saveAnUpdateConfigs(client, request, getConfigName(), mdc, new OnSucessActionListener<IndexResponse>(channel) {
+        saveAnUpdateConfigs(client, request, getConfigName(), mdc,
+                new OnSucessActionListener<IndexResponse>(channel, attempt, next -> handlePatch(channel, request, client, next)) {
 
             @Override
             public void onResponse(IndexResponse response) {
@@ -248,7 +254,7 @@ public abstract class PatchableResourceApiAction extends AbstractApiAction {
             throws IOException {
 
         if (request.method() == Method.PATCH) {
-            handlePatch(channel, request, client);
+            handlePatch(channel, request, client, 0);
         } else {
             super.handleApiRequest(channel, request, client);
         }
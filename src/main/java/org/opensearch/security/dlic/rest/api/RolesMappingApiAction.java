@@ -65,6 +65,10 @@ public class RolesMappingApiAction extends PatchableResourceApiAction {
 
 	@Override
 	protected void handlePut(RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+		put(channel, request, client, content, 0);
+	}
+
+	private void put(RestChannel channel, final RestRequest request, final Client client, final JsonNode content, final int attempt) throws IOException {
 		final String name = request.param("name");
 
 		if (name == null || name.length() == 0) {
@@ -79,7 +83,8 @@ public class RolesMappingApiAction extends PatchableResourceApiAction {
 
 		rolesMappingConfiguration.putCObject(name, DefaultObjectMapper.readTree(content, rolesMappingConfiguration.getImplementingClass()));
 
-		saveAnUpdateConfigs(client, request, getConfigName(), rolesMappingConfiguration, new OnSucessActionListener<IndexResponse>(channel) {
+		saveAnUpdateConfigs(client, request, getConfigName(), rolesMappingConfiguration,
+				new OnSucessActionListener<IndexResponse>(channel, attempt, next -> put(channel, request, client, content, next)) {
 
 			@Override
 			public void onResponse(IndexResponse response) {
@@ -46,6 +46,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 
 import com.google.common.collect.ImmutableList;
 
@@ -101,6 +102,10 @@ public class Utils {
     }
 
     public static JsonNode convertJsonToJackson(ToXContent jsonContent, boolean omitDefaults) {
+        if (jsonContent instanceof SecurityDynamicConfiguration) {
+            return DefaultObjectMapper.valueToTree(jsonContent, omitDefaults);
+        }
+
         try {
             Map<String, String> pm = new HashMap<>(1);
             pm.put("omit_defaults", String.valueOf(omitDefaults));
@@ -48,6 +48,9 @@ import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
@@ -205,6 +208,13 @@ public class HttpClient implements Closeable {
             }
     }
 
+    /**
+     * Sends the bulk request asynchronously to one of the servers, the servers are used round-robin
+     */
+    public void bulkAsync(final BulkRequest bulkRequest, final ActionListener<BulkResponse> listener) {
+        rclient.bulkAsync(bulkRequest, RequestOptions.DEFAULT, listener);
+    }
+
     private final HttpAsyncClientBuilder asyncClientBuilder(HttpAsyncClientBuilder httpClientBuilder)
             throws NoSuchAlgorithmException, KeyStoreException, UnrecoverableKeyException, KeyManagementException {
 
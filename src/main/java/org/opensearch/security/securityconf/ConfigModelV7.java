@@ -17,9 +17,12 @@
 
 package org.opensearch.security.securityconf;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,11 +31,13 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Logger;
@@ -46,6 +51,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.security.DefaultObjectMapper;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
@@ -56,18 +62,31 @@ import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.MultimapBuilder.SetMultimapBuilder;
 import com.google.common.collect.SetMultimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 
 import static org.opensearch.cluster.metadata.IndexAbstraction.Type.ALIAS;
 
 public class ConfigModelV7 extends ConfigModel {
 
+    //shared by all reloads, roles and tenants are compiled in parallel on at most this many threads
+    private static final int RELOAD_THREADS = Math.min(10, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService RELOAD_EXECUTOR = Executors.newFixedThreadPool(RELOAD_THREADS, r -> {
+        final Thread thread = new Thread(r, "opensearch-security-config-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     protected final Logger log = LogManager.getLogger(this.getClass());
     private ConfigConstants.RolesMappingResolution rolesMappingResolution;
     private ActionGroupResolver agr = null;
@@ -76,6 +95,9 @@ public class ConfigModelV7 extends ConfigModel {
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV7> roles;
     private SecurityDynamicConfiguration<TenantV7> tenants;
+    //content hashes to detect which roles are unchanged compared to the previous model
+    private final Map<String, HashCode> roleHashes;
+    private final HashCode actionGroupsHash;
 
     public ConfigModelV7(
             SecurityDynamicConfiguration<RoleV7> roles,
@@ -84,9 +106,31 @@ public class ConfigModelV7 extends ConfigModel {
             SecurityDynamicConfiguration<TenantV7> tenants,
             DynamicConfigModel dcm,
             Settings opensearchSettings) {
+        this(roles, rolemappings, actiongroups, tenants, dcm, opensearchSettings, null);
+    }
+
+    /**
+     * @param previous the model which is replaced by this one, the compiled roles and tenants of unchanged roles are reused from it. May be null.
+     */
+    public ConfigModelV7(
+            SecurityDynamicConfiguration<RoleV7> roles,
+            SecurityDynamicConfiguration<RoleMappingsV7> rolemappings,
+            SecurityDynamicConfiguration<ActionGroupsV7> actiongroups,
+            SecurityDynamicConfiguration<TenantV7> tenants,
+            DynamicConfigModel dcm,
+            Settings opensearchSettings,
+            ConfigModelV7 previous) {
 
         this.roles = roles;
         this.tenants = tenants;
+        this.roleHashes = new HashMap<>(roles.getCEntries().size());
+        for (Entry<String, RoleV7> role : roles.getCEntries().entrySet()) {
+            roleHashes.put(role.getKey(), contentHash(role.getValue()));
+        }
+        this.actionGroupsHash = contentHash(actiongroups == null ? null : actiongroups.getCEntries());
+
+        //compiled roles and tenants depend on the resolved action groups, they can only be reused if those did not change
+        final ConfigModelV7 reusable = previous != null && previous.actionGroupsHash.equals(actionGroupsHash) ? previous : null;
         
         try {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.valueOf(
@@ -97,9 +141,10 @@ public class ConfigModelV7 extends ConfigModel {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.MAPPING_ONLY;
         }
         
-        agr = reloadActionGroups(actiongroups);
-        securityRoles = reload(roles);
-        tenantHolder = new TenantHolder(roles, tenants);
+        agr = new ActionGroupResolver(actiongroups);
+        securityRoles = reload(roles, reusable);
+        tenantHolder = new TenantHolder(roles, tenants,
+                reusable != null && reusable.tenants.getCEntries().keySet().equals(tenants.getCEntries().keySet()) ? reusable : null);
         roleMappingHolder = new RoleMappingHolder(rolemappings, dcm.getHostsResolverMode());
     }
     
@@ -111,71 +156,121 @@ public class ConfigModelV7 extends ConfigModel {
         return securityRoles;
     }
     
-    private static interface ActionGroupResolver {
-        Set<String> resolvedActions(final List<String> actions);
+    private boolean isRoleUnchanged(final String roleName, final ConfigModelV7 previous) {
+        final HashCode hash = roleHashes.get(roleName);
+        return previous != null && hash != null && hash.equals(previous.roleHashes.get(roleName));
     }
-    
-    private ActionGroupResolver reloadActionGroups(SecurityDynamicConfiguration<ActionGroupsV7> actionGroups) {
-        return new ActionGroupResolver() {
-            
-            private Set<String> getGroupMembers(final String groupname) {
 
-                if (actionGroups == null) {
-                    return Collections.emptySet();
-                }
+    private static HashCode contentHash(final Object value) {
+        try {
+            return Hashing.murmur3_128().hashString(DefaultObjectMapper.writeValueAsString(value, false), StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
 
-                return Collections.unmodifiableSet(resolve(actionGroups, groupname));
+    /**
+     * Resolves action groups to the actions they contain.
+     *
+     * All action groups are flattened once when the resolver is created. Nested groups are resolved depth first,
+     * so every group is expanded exactly once no matter how many groups or roles refer to it.
+     * Action groups which refer to each other in a cycle are resolved as one group, every member of the cycle
+     * resolves to the actions of all its members. The resolved actions of identical action lists,
+     * which are common across index and tenant permissions, are memoized as well.
+     */
+    private class ActionGroupResolver {
+
+        private final Map<String, Set<String>> flattenedGroups;
+        private final Map<List<String>, Set<String>> resolvedActionsCache = new ConcurrentHashMap<>();
+
+        ActionGroupResolver(final SecurityDynamicConfiguration<ActionGroupsV7> actionGroups) {
+            if (actionGroups == null) {
+                flattenedGroups = Collections.emptyMap();
+                return;
             }
-            
-            private Set<String> resolve(final SecurityDynamicConfiguration<?> actionGroups, final String entry) {
 
-                
-                // SG5 format, plain array
-                //List<String> en = actionGroups.getAsList(DotPath.of(entry));
-                //if (en.isEmpty()) {
-                    // try SG6 format including readonly and permissions key
-                //  en = actionGroups.getAsList(DotPath.of(entry + "." + ConfigConstants.CONFIGKEY_ACTION_GROUPS_PERMISSIONS));
-                    //}
-                
-                if(!actionGroups.getCEntries().containsKey(entry)) {
-                    return Collections.emptySet();
+            flattenedGroups = new HashMap<>(actionGroups.getCEntries().size());
+            //visiting order and lowest reachable visiting order of the groups (Tarjan's strongly connected components)
+            final Map<String, Integer> visitOrder = new HashMap<>(actionGroups.getCEntries().size());
+            final Map<String, Integer> lowLinks = new HashMap<>(actionGroups.getCEntries().size());
+            final Deque<String> unresolved = new ArrayDeque<>();
+            for (String groupname : actionGroups.getCEntries().keySet()) {
+                if (!visitOrder.containsKey(groupname)) {
+                    flatten(actionGroups, groupname, visitOrder, lowLinks, unresolved);
                 }
-                
-                final Set<String> ret = new HashSet<String>();
-                
-                final Object actionGroupAsObject = actionGroups.getCEntries().get(entry);
-                
-                if(actionGroupAsObject != null && actionGroupAsObject instanceof List) {
-                    
-                    for (final String perm: ((List<String>) actionGroupAsObject)) {
-                        if (actionGroups.getCEntries().keySet().contains(perm)) {
-                            ret.addAll(resolve(actionGroups,perm));
-                        } else {
-                            ret.add(perm);
-                        }
-                    }
-                    
-                    
-                } else if(actionGroupAsObject != null &&  actionGroupAsObject instanceof ActionGroupsV7) {
-                    for (final String perm: ((ActionGroupsV7) actionGroupAsObject).getAllowed_actions()) {
-                        if (actionGroups.getCEntries().keySet().contains(perm)) {
-                            ret.addAll(resolve(actionGroups,perm));
-                        } else {
-                            ret.add(perm);
-                        }
+            }
+        }
+
+        private void flatten(final SecurityDynamicConfiguration<ActionGroupsV7> actionGroups, final String groupname,
+                final Map<String, Integer> visitOrder, final Map<String, Integer> lowLinks, final Deque<String> unresolved) {
+            visitOrder.put(groupname, visitOrder.size());
+            lowLinks.put(groupname, visitOrder.get(groupname));
+            unresolved.push(groupname);
+
+            for (final String perm: allowedActions(actionGroups, groupname)) {
+                if (!actionGroups.getCEntries().containsKey(perm)) {
+                    continue;
+                }
+                if (!visitOrder.containsKey(perm)) {
+                    flatten(actionGroups, perm, visitOrder, lowLinks, unresolved);
+                    lowLinks.put(groupname, Math.min(lowLinks.get(groupname), lowLinks.get(perm)));
+                } else if (!flattenedGroups.containsKey(perm)) {
+                    //perm is still being resolved, so it is part of a cycle with this group
+                    lowLinks.put(groupname, Math.min(lowLinks.get(groupname), visitOrder.get(perm)));
+                }
+            }
+
+            if (!lowLinks.get(groupname).equals(visitOrder.get(groupname))) {
+                //resolved together with the first group of its cycle
+                return;
+            }
+
+            final Set<String> members = new HashSet<>();
+            String member;
+            do {
+                member = unresolved.pop();
+                members.add(member);
+            } while (!member.equals(groupname));
+
+            final Set<String> ret = new HashSet<String>();
+            boolean cyclic = false;
+            for (final String memberName : members) {
+                for (final String perm: allowedActions(actionGroups, memberName)) {
+                    if (members.contains(perm)) {
+                        cyclic = true;
+                    } else if (actionGroups.getCEntries().containsKey(perm)) {
+                        ret.addAll(flattenedGroups.get(perm));
+                    } else {
+                        ret.add(perm);
                     }
-                } else {
-                    throw new RuntimeException("Unable to handle "+actionGroupAsObject);
                 }
-                
-                return Collections.unmodifiableSet(ret);
             }
-            
-            @Override
-            public Set<String> resolvedActions(final List<String> actions) {
+
+            if (members.size() > 1) {
+                log.warn("Action groups {} refer to each other, resolving them as one group", members);
+            } else if (cyclic) {
+                log.warn("Action group {} contains itself, ignoring the cyclic reference", groupname);
+            }
+
+            final Set<String> result = Collections.unmodifiableSet(ret);
+            for (final String memberName : members) {
+                flattenedGroups.put(memberName, result);
+            }
+        }
+
+        private List<String> allowedActions(final SecurityDynamicConfiguration<ActionGroupsV7> actionGroups, final String groupname) {
+            final Object actionGroupAsObject = actionGroups.getCEntries().get(groupname);
+            if (!(actionGroupAsObject instanceof ActionGroupsV7)) {
+                throw new RuntimeException("Unable to handle "+actionGroupAsObject);
+            }
+            return ((ActionGroupsV7) actionGroupAsObject).getAllowed_actions();
+        }
+
+        Set<String> resolvedActions(final List<String> actions) {
+            return resolvedActionsCache.computeIfAbsent(actions, k -> {
                 final Set<String> resolvedActions = new HashSet<String>();
                 for (String string: actions) {
-                    final Set<String> groups = getGroupMembers(string);
+                    final Set<String> groups = flattenedGroups.getOrDefault(string, Collections.emptySet());
                     if (groups.isEmpty()) {
                         resolvedActions.add(string);
                     } else {
@@ -184,18 +279,31 @@ public class ConfigModelV7 extends ConfigModel {
                 }
 
                 return Collections.unmodifiableSet(resolvedActions);
-            }
-        };
+            });
+        }
     }
 
-    private SecurityRoles reload(SecurityDynamicConfiguration<RoleV7> settings) {
+    private SecurityRoles reload(SecurityDynamicConfiguration<RoleV7> settings, ConfigModelV7 previous) {
+
+        final Map<String, SecurityRole> previousRoles = new HashMap<>();
+        if (previous != null && previous.securityRoles != null) {
+            for (SecurityRole securityRole : previous.securityRoles.roles) {
+                previousRoles.put(securityRole.name, securityRole);
+            }
+        }
 
+        final SecurityRoles _securityRoles = new SecurityRoles(settings.getCEntries().size());
         final Set<Future<SecurityRole>> futures = new HashSet<>(5000);
-        final ExecutorService execs = Executors.newFixedThreadPool(10);
 
         for(Entry<String, RoleV7> securityRole: settings.getCEntries().entrySet()) {
 
-            Future<SecurityRole> future = execs.submit(new Callable<SecurityRole>() {
+            final SecurityRole previousRole = previousRoles.get(securityRole.getKey());
+            if (previousRole != null && isRoleUnchanged(securityRole.getKey(), previous)) {
+                _securityRoles.addSecurityRole(previousRole);
+                continue;
+            }
+
+            Future<SecurityRole> future = RELOAD_EXECUTOR.submit(new Callable<SecurityRole>() {
 
                 @Override
                 public SecurityRole call() throws Exception {
@@ -255,19 +363,11 @@ public class ConfigModelV7 extends ConfigModel {
             futures.add(future);
         }
 
-        execs.shutdown();
-        try {
-            execs.awaitTermination(30, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Thread interrupted (1) while loading roles");
-            return null;
-        }
+        log.debug("Reused {} unchanged roles, rebuilding {} roles", _securityRoles.roles.size(), futures.size());
 
         try {
-            SecurityRoles _securityRoles = new SecurityRoles(futures.size());
             for (Future<SecurityRole> future : futures) {
-                _securityRoles.addSecurityRole(future.get());
+                _securityRoles.addSecurityRole(future.get(30, TimeUnit.SECONDS));
             }
 
             return _securityRoles;
@@ -278,6 +378,10 @@ public class ConfigModelV7 extends ConfigModel {
         } catch (ExecutionException e) {
             log.error("Error while updating roles: {}", e.getCause(), e.getCause());
             throw ExceptionsHelper.convertToOpenSearchException(e);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.error("Timeout while updating roles");
+            throw ExceptionsHelper.convertToOpenSearchException(e);
         }
     }
 
@@ -658,6 +762,8 @@ public class ConfigModelV7 extends ConfigModel {
         private final Set<String> fls = new HashSet<>();
         private final Set<String> maskedFields = new HashSet<>();
         private final Set<String> perms = new HashSet<>();
+        //compiled lazily and reset when perms are added
+        private volatile WildcardMatcher permsMatcher;
 
         public IndexPattern(String indexPattern) {
             super();
@@ -681,6 +787,7 @@ public class ConfigModelV7 extends ConfigModel {
         public IndexPattern addPerm(Set<String> perms) {
             if (perms != null) {
                 this.perms.addAll(perms);
+                this.permsMatcher = null;
             }
             return this;
         }
@@ -807,7 +914,12 @@ public class ConfigModelV7 extends ConfigModel {
         }
         
         public WildcardMatcher getPerms() {
-            return WildcardMatcher.from(perms);
+            WildcardMatcher matcher = permsMatcher;
+            if (matcher == null) {
+                matcher = WildcardMatcher.from(perms);
+                permsMatcher = matcher;
+            }
+            return matcher;
         }
 
         
@@ -976,9 +1088,9 @@ public class ConfigModelV7 extends ConfigModel {
     private static final class IndexMatcherAndPermissions {
         private WildcardMatcher matcher;
         private WildcardMatcher perms;
-        public IndexMatcherAndPermissions(Set<String> patterns, Set<String> perms) {
+        public IndexMatcherAndPermissions(Set<String> patterns, WildcardMatcher perms) {
             this.matcher = WildcardMatcher.from(patterns);
-            this.perms = WildcardMatcher.from(perms);
+            this.perms = perms;
         }
 
         public boolean matches(String index, String action) {
@@ -994,12 +1106,12 @@ public class ConfigModelV7 extends ConfigModel {
             indexMatcherAndPermissions = ipatterns
                     .stream()
                     .filter(indexPattern -> "*".equals(indexPattern.getUnresolvedIndexPattern(user)))
-                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, true), p.perms))
+                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, true), p.getPerms()))
                     .toArray(IndexMatcherAndPermissions[]::new);
         } else {
             indexMatcherAndPermissions = ipatterns
                     .stream()
-                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, true), p.perms))
+                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, true), p.getPerms()))
                     .toArray(IndexMatcherAndPermissions[]::new);
         }
         return resolvedRequestedIndices
@@ -1019,12 +1131,15 @@ public class ConfigModelV7 extends ConfigModel {
     
     private class TenantHolder {
 
+        //role name to the tenants of the role
         private SetMultimap<String, Tuple<String, Boolean>> tenantsMM = null;
+        //users with the same mapped roles have the same tenants, the holder and this cache are replaced on every reload
+        private final Cache<Set<String>, Map<String, Boolean>> tenantsByRoles = CacheBuilder.newBuilder().maximumSize(1000).build();
 
-        public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants) {
+        public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants, ConfigModelV7 previous) {
             final Set<Future<Tuple<String, Set<Tuple<String, Boolean>>>>> futures = new HashSet<>(roles.getCEntries().size());
-
-            final ExecutorService execs = Executors.newFixedThreadPool(10);
+            final SetMultimap<String, Tuple<String, Boolean>> tenantsMM_ = SetMultimapBuilder.hashKeys(roles.getCEntries().size()).hashSetValues(16).build();
+            final SetMultimap<String, Tuple<String, Boolean>> previousTenantsMM = previous == null ? null : previous.tenantHolder.tenantsMM;
 
             for(Entry<String, RoleV7> securityRole: roles.getCEntries().entrySet()) {
                 
@@ -1032,7 +1147,12 @@ public class ConfigModelV7 extends ConfigModel {
                     continue;
                 }
 
-                Future<Tuple<String, Set<Tuple<String, Boolean>>>> future = execs.submit(new Callable<Tuple<String, Set<Tuple<String, Boolean>>>>() {
+                if (previousTenantsMM != null && isRoleUnchanged(securityRole.getKey(), previous)) {
+                    tenantsMM_.putAll(securityRole.getKey(), previousTenantsMM.get(securityRole.getKey()));
+                    continue;
+                }
+
+                Future<Tuple<String, Set<Tuple<String, Boolean>>>> future = RELOAD_EXECUTOR.submit(new Callable<Tuple<String, Set<Tuple<String, Boolean>>>>() {
                     @Override
                     public Tuple<String, Set<Tuple<String, Boolean>>> call() throws Exception {
                         final Set<Tuple<String, Boolean>> tuples = new HashSet<>();
@@ -1056,20 +1176,9 @@ public class ConfigModelV7 extends ConfigModel {
 
             }
 
-            execs.shutdown();
-            try {
-                execs.awaitTermination(30, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted (1) while loading roles");
-                return;
-            }
-
             try {
-                final SetMultimap<String, Tuple<String, Boolean>> tenantsMM_ = SetMultimapBuilder.hashKeys(futures.size()).hashSetValues(16).build();
-
                 for (Future<Tuple<String, Set<Tuple<String, Boolean>>>> future : futures) {
-                    Tuple<String, Set<Tuple<String, Boolean>>> result = future.get();
+                    Tuple<String, Set<Tuple<String, Boolean>>> result = future.get(30, TimeUnit.SECONDS);
                     tenantsMM_.putAll(result.v1(), result.v2());
                 }
 
@@ -1081,6 +1190,10 @@ public class ConfigModelV7 extends ConfigModel {
             } catch (ExecutionException e) {
                 log.error("Error while updating roles: {}", e.getCause(), e.getCause());
                 throw ExceptionsHelper.convertToOpenSearchException(e);
+            } catch (TimeoutException e) {
+                futures.forEach(future -> future.cancel(true));
+                log.error("Timeout while updating tenants");
+                throw ExceptionsHelper.convertToOpenSearchException(e);
             }
 
         }
@@ -1091,28 +1204,42 @@ public class ConfigModelV7 extends ConfigModel {
                 return Collections.emptyMap();
             }
 
-            final Map<String, Boolean> result = new HashMap<>(roles.size());
+            final Map<String, Boolean> roleTenants;
+            try {
+                roleTenants = tenantsByRoles.get(ImmutableSet.copyOf(roles), () -> mapTenants(roles));
+            } catch (ExecutionException e) {
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+
+            final Map<String, Boolean> result = new HashMap<>(roleTenants.size() + 1);
+            result.putAll(roleTenants);
             result.put(user.getName(), true);
+            return Collections.unmodifiableMap(result);
+        }
+
+        //the tenants of a set of roles, without the private tenant of the user
+        private Map<String, Boolean> mapTenants(final Set<String> roles) {
+            final Map<String, Boolean> result = new HashMap<>();
 
-            tenantsMM.entries().stream().filter(e -> roles.contains(e.getKey())).filter(e -> !user.getName().equals(e.getValue().v1())).forEach(e -> {
-                final String tenant = e.getValue().v1();
-                final boolean rw = e.getValue().v2();
+            for (String role : roles) {
+                for (Tuple<String, Boolean> tenant : tenantsMM.get(role)) {
+                    final boolean rw = tenant.v2();
 
-                if (rw || !result.containsKey(tenant)) { //RW outperforms RO
-                    result.put(tenant, rw);
+                    if (rw || !result.containsKey(tenant.v1())) { //RW outperforms RO
+                        result.put(tenant.v1(), rw);
+                    }
                 }
-            });
-            
+            }
+
             if(!result.containsKey("global_tenant") && (
                     roles.contains("kibana_user")
-                    || roles.contains("kibana_user")
                     || roles.contains("all_access")
                     || roles.contains("ALL_ACCESS")
                     )) {
                 result.put("global_tenant", true);
             }
 
-            return Collections.unmodifiableMap(result);
+            return result;
         }
     }
 
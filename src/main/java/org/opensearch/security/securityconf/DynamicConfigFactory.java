@@ -37,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opensearch.security.auditlog.config.AuditConfig;
@@ -129,6 +130,11 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
     private final InternalAuthenticationBackend iab = new InternalAuthenticationBackend();
 
     SecurityDynamicConfiguration<?> config;
+    //the models of the last change, reused as long as the config types they are built from do not change
+    private Class<?> configImplementingClass;
+    private DynamicConfigModel dcm;
+    private InternalUsersModel ium;
+    private ConfigModel cm;
     
     public DynamicConfigFactory(ConfigurationRepository cr, final Settings opensearchSettings,
             final Path configPath, Client client, ThreadPool threadPool, ClusterInfoHolder cih) {
@@ -164,40 +170,36 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
     @Override
     public void onChange(Map<CType, SecurityDynamicConfiguration<?>> typeToConfig) {
 
-        SecurityDynamicConfiguration<?> actionGroups = cr.getConfiguration(CType.ACTIONGROUPS);
+        final Set<CType> changedTypes = typeToConfig.keySet();
         config = cr.getConfiguration(CType.CONFIG);
-        SecurityDynamicConfiguration<?> internalusers = cr.getConfiguration(CType.INTERNALUSERS);
-        SecurityDynamicConfiguration<?> roles = cr.getConfiguration(CType.ROLES);
-        SecurityDynamicConfiguration<?> rolesmapping = cr.getConfiguration(CType.ROLESMAPPING);
-        SecurityDynamicConfiguration<?> tenants = cr.getConfiguration(CType.TENANTS);
-        SecurityDynamicConfiguration<?> nodesDn = cr.getConfiguration(CType.NODESDN);
-        SecurityDynamicConfiguration<?> whitelistingSetting = cr.getConfiguration(CType.WHITELIST);
 
+        //a model is only rebuilt if one of the config types it is built from changed,
+        //unchanged models (and the authentication backends of the dynamic config model) are kept.
+        //A change of the config type rebuilds everything, like the initial load
+        final boolean rebuildAll = !initialized.get() || config.getImplementingClass() != configImplementingClass
+                || changedTypes.contains(CType.CONFIG);
+        final boolean rebuildDcm = rebuildAll;
+        final boolean rebuildIum = rebuildAll || containsAny(changedTypes, CType.INTERNALUSERS, CType.ROLES, CType.ROLESMAPPING);
+        final boolean rebuildCm = rebuildDcm || containsAny(changedTypes, CType.ROLES, CType.ROLESMAPPING, CType.ACTIONGROUPS, CType.TENANTS);
+        final boolean rebuildNm = rebuildAll || changedTypes.contains(CType.NODESDN);
+        final boolean reloadWhitelist = rebuildAll || changedTypes.contains(CType.WHITELIST);
+        final boolean reloadAudit = rebuildAll || changedTypes.contains(CType.AUDIT);
+
+        final SecurityDynamicConfiguration<?> actionGroups = rebuildCm ? cr.getConfiguration(CType.ACTIONGROUPS) : null;
+        final SecurityDynamicConfiguration<?> internalusers = rebuildIum ? cr.getConfiguration(CType.INTERNALUSERS) : null;
+        final SecurityDynamicConfiguration<?> roles = rebuildIum || rebuildCm ? cr.getConfiguration(CType.ROLES) : null;
+        final SecurityDynamicConfiguration<?> rolesmapping = rebuildIum || rebuildCm ? cr.getConfiguration(CType.ROLESMAPPING) : null;
+        final SecurityDynamicConfiguration<?> tenants = rebuildCm ? cr.getConfiguration(CType.TENANTS) : null;
 
         if (log.isDebugEnabled()) {
-            String logmsg = "current config (because of " + typeToConfig.keySet() + ")\n" +
-                    " actionGroups: " + actionGroups.getImplementingClass() + " with " + actionGroups.getCEntries().size() + " entries\n" +
-                    " config: " + config.getImplementingClass() + " with " + config.getCEntries().size() + " entries\n" +
-                    " internalusers: " + internalusers.getImplementingClass() + " with " + internalusers.getCEntries().size() + " entries\n" +
-                    " roles: " + roles.getImplementingClass() + " with " + roles.getCEntries().size() + " entries\n" +
-                    " rolesmapping: " + rolesmapping.getImplementingClass() + " with " + rolesmapping.getCEntries().size() + " entries\n" +
-                    " tenants: " + tenants.getImplementingClass() + " with " + tenants.getCEntries().size() + " entries\n" +
-                    " nodesdn: " + nodesDn.getImplementingClass() + " with " + nodesDn.getCEntries().size() + " entries\n" +
-                    " whitelist " + whitelistingSetting.getImplementingClass() + " with " + whitelistingSetting.getCEntries().size() + " entries\n";
-            log.debug(logmsg);
-            
+            log.debug("current config (because of {}), rebuilding dynamic config model: {}, internal users model: {}, config model: {}, nodes dn model: {}",
+                    changedTypes, rebuildDcm, rebuildIum, rebuildCm, rebuildNm);
         }
 
-        final DynamicConfigModel dcm;
-        final InternalUsersModel ium;
-        final ConfigModel cm;
-        final NodesDnModel nm = new NodesDnModelImpl(nodesDn);
-        final WhitelistingSettings whitelist = (WhitelistingSettings) cr.getConfiguration(CType.WHITELIST).getCEntry("config");
-        final AuditConfig audit = (AuditConfig)cr.getConfiguration(CType.AUDIT).getCEntry("config");
-
         if(config.getImplementingClass() == ConfigV7.class) {
-                //statics
-                
+            //statics
+
+            if(roles != null) {
                 if(roles.containsAny(staticRoles)) {
                     throw new StaticResourceException("Cannot override static roles");
                 }
@@ -206,63 +208,95 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
                 }
 
                 log.debug("Static roles loaded ({})", staticRoles.getCEntries().size());
+            }
 
+            if(actionGroups != null) {
                 if(actionGroups.containsAny(staticActionGroups)) {
-                    System.out.println("static: " + actionGroups.getCEntries());
-                    System.out.println("Static Action Groups:" + staticActionGroups.getCEntries());
                     throw new StaticResourceException("Cannot override static action groups");
                 }
                 if(!actionGroups.add(staticActionGroups) && !staticActionGroups.getCEntries().isEmpty()) {
                     throw new StaticResourceException("Unable to load static action groups");
                 }
-                
 
                 log.debug("Static action groups loaded ({})", staticActionGroups.getCEntries().size());
-                
+            }
+
+            if(tenants != null) {
                 if(tenants.containsAny(staticTenants)) {
                     throw new StaticResourceException("Cannot override static tenants");
                 }
                 if(!tenants.add(staticTenants) && !staticTenants.getCEntries().isEmpty()) {
                     throw new StaticResourceException("Unable to load static tenants");
                 }
-                
 
                 log.debug("Static tenants loaded ({})", staticTenants.getCEntries().size());
-
-                log.debug("Static configuration loaded (total roles: {}/total action groups: {}/total tenants: {})",
-                    roles.getCEntries().size(), actionGroups.getCEntries().size(), tenants.getCEntries().size());
-
-            
+            }
 
             //rebuild v7 Models
-            dcm = new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab);
-            ium = new InternalUsersModelV7((SecurityDynamicConfiguration<InternalUserV7>) internalusers,
-                (SecurityDynamicConfiguration<RoleV7>) roles,
-                (SecurityDynamicConfiguration<RoleMappingsV7>) rolesmapping);
-            cm = new ConfigModelV7((SecurityDynamicConfiguration<RoleV7>) roles,(SecurityDynamicConfiguration<RoleMappingsV7>)rolesmapping, (SecurityDynamicConfiguration<ActionGroupsV7>)actionGroups, (SecurityDynamicConfiguration<TenantV7>) tenants,dcm, opensearchSettings);
+            if(rebuildDcm) {
+                dcm = new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab);
+            }
+            if(rebuildIum) {
+                ium = new InternalUsersModelV7((SecurityDynamicConfiguration<InternalUserV7>) internalusers,
+                    (SecurityDynamicConfiguration<RoleV7>) roles,
+                    (SecurityDynamicConfiguration<RoleMappingsV7>) rolesmapping);
+            }
+            if(rebuildCm) {
+                cm = new ConfigModelV7((SecurityDynamicConfiguration<RoleV7>) roles,(SecurityDynamicConfiguration<RoleMappingsV7>)rolesmapping, (SecurityDynamicConfiguration<ActionGroupsV7>)actionGroups, (SecurityDynamicConfiguration<TenantV7>) tenants,dcm, opensearchSettings,
+                    cm instanceof ConfigModelV7 ? (ConfigModelV7) cm : null);
+            }
 
         } else {
 
             //rebuild v6 Models
-            dcm = new DynamicConfigModelV6(getConfigV6(config), opensearchSettings, configPath, iab);
-            ium = new InternalUsersModelV6((SecurityDynamicConfiguration<InternalUserV6>) internalusers);
-            cm = new ConfigModelV6((SecurityDynamicConfiguration<RoleV6>) roles, (SecurityDynamicConfiguration<ActionGroupsV6>)actionGroups, (SecurityDynamicConfiguration<RoleMappingsV6>)rolesmapping, dcm, opensearchSettings);
+            if(rebuildDcm) {
+                dcm = new DynamicConfigModelV6(getConfigV6(config), opensearchSettings, configPath, iab);
+            }
+            if(rebuildIum) {
+                ium = new InternalUsersModelV6((SecurityDynamicConfiguration<InternalUserV6>) internalusers);
+            }
+            if(rebuildCm) {
+                cm = new ConfigModelV6((SecurityDynamicConfiguration<RoleV6>) roles, (SecurityDynamicConfiguration<ActionGroupsV6>)actionGroups, (SecurityDynamicConfiguration<RoleMappingsV6>)rolesmapping, dcm, opensearchSettings);
+            }
 
         }
 
-        //notify subscribers
-        eventBus.post(cm);
-        eventBus.post(dcm);
-        eventBus.post(ium);
-        eventBus.post(nm);
-        eventBus.post(whitelist==null? defaultWhitelistingSettings: whitelist);
-        if (cr.isAuditHotReloadingEnabled()) {
+        configImplementingClass = config.getImplementingClass();
+
+        //notify subscribers, only about the models which were rebuilt
+        if(rebuildCm) {
+            eventBus.post(cm);
+        }
+        if(rebuildDcm) {
+            eventBus.post(dcm);
+        }
+        if(rebuildIum) {
+            eventBus.post(ium);
+        }
+        if(rebuildNm) {
+            eventBus.post(new NodesDnModelImpl(cr.getConfiguration(CType.NODESDN)));
+        }
+        if(reloadWhitelist) {
+            final WhitelistingSettings whitelist = (WhitelistingSettings) cr.getConfiguration(CType.WHITELIST).getCEntry("config");
+            eventBus.post(whitelist==null? defaultWhitelistingSettings: whitelist);
+        }
+        if (reloadAudit && cr.isAuditHotReloadingEnabled()) {
+            final AuditConfig audit = (AuditConfig)cr.getConfiguration(CType.AUDIT).getCEntry("config");
             eventBus.post(audit);
         }
 
         initialized.set(true);
         
     }
+
+    private static boolean containsAny(Set<CType> changedTypes, CType... types) {
+        for (CType type : types) {
+            if (changedTypes.contains(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
     
     private static ConfigV6 getConfigV6(SecurityDynamicConfiguration<?> sdc) {
         @SuppressWarnings("unchecked")
@@ -0,0 +1,212 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.securityconf.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.util.RamUsageEstimator;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Walks the entries of a configuration, these are the Jackson POJOs of this plugin
+ * together with the collections, maps and strings they reference.
+ *
+ * Compacting interns all strings, so that backend roles, action names and index patterns which are repeated
+ * across entries and config types are kept only once, and trims lists to their size. Collections are modified
+ * in place and stay mutable, callers of {@link SecurityDynamicConfiguration#getCEntry(String)} still may change them.
+ */
+final class ConfigEntries {
+
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+    private static final String POJO_PACKAGE = "org.opensearch.security.";
+
+    private static final long HASH_ENTRY_BYTES = RamUsageEstimator.alignObjectSize(
+            RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + 3L * RamUsageEstimator.NUM_BYTES_OBJECT_REF + Integer.BYTES);
+    private static final long HASH_SET_MAP_BYTES = RamUsageEstimator.shallowSizeOfInstance(HashMap.class);
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private ConfigEntries() {
+    }
+
+    static void compact(final Map<String, ?> entries) {
+        compact(entries, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * @return the estimated number of bytes on the heap which are retained by the entries
+     */
+    static long ramBytesUsed(final Map<String, ?> entries) {
+        return ramBytesUsed(entries, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object compact(final Object value, final Set<Object> visited) {
+        if (value instanceof String) {
+            return STRINGS.intern((String) value);
+        }
+        if (value == null || !visited.add(value)) {
+            return value;
+        }
+
+        if (value instanceof List) {
+            compactList((List<Object>) value, visited);
+        } else if (value instanceof Set) {
+            compactSet((Set<Object>) value, visited);
+        } else if (value instanceof Map) {
+            compactMap((Map<Object, Object>) value, visited);
+        } else if (isPojo(value)) {
+            compactPojo(value, visited);
+        }
+        return value;
+    }
+
+    private static void compactList(final List<Object> list, final Set<Object> visited) {
+        if (list instanceof ArrayList) {
+            list.replaceAll(element -> compact(element, visited));
+            ((ArrayList<Object>) list).trimToSize();
+        } else {
+            list.forEach(element -> compact(element, visited));
+        }
+    }
+
+    private static void compactSet(final Set<Object> set, final Set<Object> visited) {
+        if (set instanceof HashSet) {
+            final List<Object> elements = new ArrayList<>(set);
+            set.clear();
+            elements.forEach(element -> set.add(compact(element, visited)));
+        } else {
+            set.forEach(element -> compact(element, visited));
+        }
+    }
+
+    private static void compactMap(final Map<Object, Object> map, final Set<Object> visited) {
+        if (map instanceof HashMap) {
+            //re-inserting keeps the iteration order of a LinkedHashMap
+            final List<Map.Entry<Object, Object>> entries = new ArrayList<>(map.entrySet().size());
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            }
+            map.clear();
+            for (Map.Entry<Object, Object> entry : entries) {
+                map.put(compact(entry.getKey(), visited), compact(entry.getValue(), visited));
+            }
+        } else {
+            map.values().forEach(element -> compact(element, visited));
+        }
+    }
+
+    private static void compactPojo(final Object pojo, final Set<Object> visited) {
+        for (Field field : FIELDS.get(pojo.getClass())) {
+            try {
+                final Object fieldValue = field.get(pojo);
+                final Object compacted = compact(fieldValue, visited);
+                if (compacted != fieldValue && !Modifier.isFinal(field.getModifiers())) {
+                    field.set(pojo, compacted);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static long ramBytesUsed(final Object value, final Set<Object> visited) {
+        if (value == null || value instanceof Enum || !visited.add(value)) {
+            return 0;
+        }
+
+        if (value instanceof String) {
+            return RamUsageEstimator.sizeOf((String) value);
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            long size = RamUsageEstimator.shallowSizeOf(collection) + tableBytes(collection);
+            for (Object element : collection) {
+                size += ramBytesUsed(element, visited);
+            }
+            return size;
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            long size = RamUsageEstimator.shallowSizeOf(map) + tableBytes(map.keySet());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += ramBytesUsed(entry.getKey(), visited) + ramBytesUsed(entry.getValue(), visited);
+            }
+            return size;
+        } else if (isPojo(value)) {
+            long size = RamUsageEstimator.shallowSizeOf(value);
+            for (Field field : FIELDS.get(value.getClass())) {
+                try {
+                    size += ramBytesUsed(field.get(value), visited);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return size;
+        }
+        return RamUsageEstimator.shallowSizeOf(value);
+    }
+
+    /**
+     * Estimates the backing array and the hash entries, the internals of JDK collections can not be inspected.
+     */
+    private static long tableBytes(final Collection<?> collection) {
+        final int size = collection.size();
+        if (collection instanceof HashSet) {
+            return HASH_SET_MAP_BYTES + hashTableBytes(size);
+        }
+        if (collection instanceof Set) {
+            //key set of a map
+            return hashTableBytes(size);
+        }
+        return RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) RamUsageEstimator.NUM_BYTES_OBJECT_REF * size);
+    }
+
+    private static long hashTableBytes(final int size) {
+        final long tableLength = size == 0 ? 0 : Integer.highestOneBit(Math.max(1, (int) (size / 0.75f)) * 2 - 1);
+        return RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + RamUsageEstimator.NUM_BYTES_OBJECT_REF * tableLength)
+                + size * HASH_ENTRY_BYTES;
+    }
+
+    private static boolean isPojo(final Object value) {
+        return value.getClass().getName().startsWith(POJO_PACKAGE);
+    }
+}
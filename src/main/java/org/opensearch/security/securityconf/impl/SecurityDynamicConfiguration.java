@@ -48,6 +48,7 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.opensearch.security.DefaultObjectMapper;
 import org.opensearch.security.NonValidatingObjectMapper;
@@ -77,10 +78,7 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
     public static <T> SecurityDynamicConfiguration<T> fromJson(String json, CType ctype, int version, long seqNo, long primaryTerm, boolean acceptInvalid) throws IOException {
         SecurityDynamicConfiguration<T> sdc = null;
         if(ctype != null) {
-            final Class<?> implementationClass = ctype.getImplementationClass().get(version);
-            if(implementationClass == null) {
-                throw new IllegalArgumentException("No implementation class found for "+ctype+" and config version "+version);
-            }
+            final Class<?> implementationClass = implementationClass(ctype, version);
             if(acceptInvalid && version < 2) {
                 sdc = NonValidatingObjectMapper.readValue(json, NonValidatingObjectMapper.getTypeFactory().constructParametricType(SecurityDynamicConfiguration.class, implementationClass));
             } else {
@@ -92,12 +90,27 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
             sdc = new SecurityDynamicConfiguration<T>();
         }
         
-        sdc.ctype = ctype;
-        sdc.seqNo = seqNo;
-        sdc.primaryTerm = primaryTerm;
-        sdc.version = version;
+        return sdc.withMetadata(ctype, version, seqNo, primaryTerm);
+    }
+
+    private static Class<?> implementationClass(CType ctype, int version) {
+        final Class<?> implementationClass = ctype.getImplementationClass().get(version);
+        if(implementationClass == null) {
+            throw new IllegalArgumentException("No implementation class found for "+ctype+" and config version "+version);
+        }
+        return implementationClass;
+    }
 
-        return sdc;
+    private static JavaType configType(CType ctype, int version) {
+        return DefaultObjectMapper.getTypeFactory().constructParametricType(SecurityDynamicConfiguration.class, implementationClass(ctype, version));
+    }
+
+    private SecurityDynamicConfiguration<T> withMetadata(CType ctype, int version, long seqNo, long primaryTerm) {
+        this.ctype = ctype;
+        this.seqNo = seqNo;
+        this.primaryTerm = primaryTerm;
+        this.version = version;
+        return this;
     }
     
     public static void validate(SecurityDynamicConfiguration sdc, int version, CType ctype) throws IOException {
@@ -120,7 +133,14 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
     }
 
     public static <T> SecurityDynamicConfiguration<T> fromNode(JsonNode json, CType ctype, int version, long seqNo, long primaryTerm) throws IOException {
-        return fromJson(DefaultObjectMapper.writeValueAsString(json, false), ctype, version, seqNo, primaryTerm);
+        if(ctype == null) {
+            return new SecurityDynamicConfiguration<T>().withMetadata(ctype, version, seqNo, primaryTerm);
+        }
+
+        //bind the tree directly instead of writing it to a string and parsing that again
+        final SecurityDynamicConfiguration<T> sdc = DefaultObjectMapper.readTree(json, configType(ctype, version));
+        validate(sdc, version, ctype);
+        return sdc.withMetadata(ctype, version, seqNo, primaryTerm);
     }
     
     //for Jackson
@@ -203,6 +223,22 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
         return centries.containsKey(key);
     }
 
+    /**
+     * Interns the strings of all entries and trims their lists, see {@link ConfigEntries}
+     */
+    @JsonIgnore
+    public void compact() {
+        ConfigEntries.compact(centries);
+    }
+
+    /**
+     * @return the estimated heap footprint of all entries in bytes
+     */
+    @JsonIgnore
+    public long ramBytesUsed() {
+        return ConfigEntries.ramBytesUsed(centries);
+    }
+
     @JsonIgnore
     public BytesReference toBytesReference() throws IOException {
         return XContentHelper.toXContent(this, XContentType.JSON, false);
@@ -259,8 +295,14 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
 
     @JsonIgnore
     public SecurityDynamicConfiguration<T> deepClone() {
+        if(ctype == null) {
+            return new SecurityDynamicConfiguration<T>().withMetadata(ctype, version, seqNo, primaryTerm);
+        }
+
         try {
-            return fromJson(DefaultObjectMapper.writeValueAsString(this, false), ctype, version, seqNo, primaryTerm);
+            final SecurityDynamicConfiguration<T> sdc = DefaultObjectMapper.copyValue(this, configType(ctype, version));
+            validate(sdc, version, ctype);
+            return sdc.withMetadata(ctype, version, seqNo, primaryTerm);
         } catch (Exception e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
@@ -150,6 +150,16 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_CONFIG_ENDPOINTS = "plugins.security.audit.endpoints";
     public static final String SECURITY_AUDIT_THREADPOOL_SIZE = "plugins.security.audit.threadpool.size";
     public static final String SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN = "plugins.security.audit.threadpool.max_queue_len";
+    public static final String SECURITY_AUDIT_THREADPOOL_OVERFLOW_POLICY = "plugins.security.audit.threadpool.overflow_policy";
+    public static final String SECURITY_AUDIT_THREADPOOL_BLOCK_TIMEOUT_MS = "plugins.security.audit.threadpool.block_timeout_ms";
+    public static final String SECURITY_AUDIT_SPILL_ENABLED = "plugins.security.audit.spill.enabled";
+    public static final String SECURITY_AUDIT_SPILL_PATH = "plugins.security.audit.spill.path";
+    public static final String SECURITY_AUDIT_SPILL_MAX_SIZE = "plugins.security.audit.spill.max_size";
+    public static final String SECURITY_AUDIT_SPILL_SEGMENT_SIZE = "plugins.security.audit.spill.segment_size";
+    public static final String SECURITY_AUDIT_SPILL_REPLAY_INTERVAL_MS = "plugins.security.audit.spill.replay_interval_ms";
+    public static final String SECURITY_AUDIT_AGGREGATION_CATEGORIES = "plugins.security.audit.aggregation.categories";
+    public static final String SECURITY_AUDIT_AGGREGATION_WINDOW_MS = "plugins.security.audit.aggregation.window_ms";
+    public static final String SECURITY_AUDIT_AGGREGATION_MAX_PENDING = "plugins.security.audit.aggregation.max_pending";
     public static final String OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY = "opendistro_security.audit.log_request_body";
     public static final String OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES = "opendistro_security.audit.resolve_indices";
     public static final String OPENDISTRO_SECURITY_AUDIT_ENABLE_REST = "opendistro_security.audit.enable_rest";
@@ -170,6 +180,13 @@ public class ConfigConstants {
     // Internal / External OpenSearch
     public static final String SECURITY_AUDIT_OPENSEARCH_INDEX = "index";
     public static final String SECURITY_AUDIT_OPENSEARCH_TYPE = "type";
+
+    // Internal / External OpenSearch bulk
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED = "bulk.enabled";
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS = "bulk.max_actions";
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_MAX_SIZE = "bulk.max_size";
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL = "bulk.flush_interval";
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_CONCURRENT_REQUESTS = "bulk.concurrent_requests";
     
     // External OpenSearch
     public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_HTTP_ENDPOINTS = "http_endpoints";
@@ -195,7 +212,17 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_WEBHOOK_SSL_VERIFY = "webhook.ssl.verify";
     public static final String SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_FILEPATH = "webhook.ssl.pemtrustedcas_filepath";
     public static final String SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_CONTENT = "webhook.ssl.pemtrustedcas_content";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_MAX_SIZE = "webhook.batch.max_size";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_LINGER_MS = "webhook.batch.linger_ms";
+    public static final String SECURITY_AUDIT_WEBHOOK_GZIP = "webhook.gzip";
+    public static final String SECURITY_AUDIT_WEBHOOK_MAX_CONNECTIONS = "webhook.max_connections";
     
+    // Kafka
+    public static final String SECURITY_AUDIT_KAFKA_PARTITION_KEY = "partition_key";
+    public static final String SECURITY_AUDIT_KAFKA_LINGER_MS = "linger_ms";
+    public static final String SECURITY_AUDIT_KAFKA_BATCH_SIZE = "batch_size";
+    public static final String SECURITY_AUDIT_KAFKA_COMPRESSION_TYPE = "compression_type";
+
     // Log4j
     public static final String SECURITY_AUDIT_LOG4J_LOGGER_NAME = "log4j.logger_name";
     public static final String SECURITY_AUDIT_LOG4J_LEVEL = "log4j.level";
@@ -203,6 +230,9 @@ public class ConfigConstants {
     //retry
     public static final String SECURITY_AUDIT_RETRY_COUNT = "plugins.security.audit.config.retry_count";
     public static final String SECURITY_AUDIT_RETRY_DELAY_MS = "plugins.security.audit.config.retry_delay_ms";
+    public static final String SECURITY_AUDIT_RETRY_MAX_DELAY_MS = "plugins.security.audit.config.retry_max_delay_ms";
+    public static final String SECURITY_AUDIT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = "plugins.security.audit.config.circuit_breaker.failure_threshold";
+    public static final String SECURITY_AUDIT_CIRCUIT_BREAKER_OPEN_MS = "plugins.security.audit.config.circuit_breaker.open_ms";
 
         
     public static final String SECURITY_KERBEROS_KRB5_FILEPATH = "plugins.security.kerberos.krb5_filepath";
@@ -218,6 +248,8 @@ public class ConfigConstants {
     public static final String SECURITY_ALLOW_UNSAFE_DEMOCERTIFICATES = "plugins.security.allow_unsafe_democertificates";
     public static final String SECURITY_ALLOW_DEFAULT_INIT_SECURITYINDEX = "plugins.security.allow_default_init_securityindex";
     public static final String SECURITY_BACKGROUND_INIT_IF_SECURITYINDEX_NOT_EXIST = "plugins.security.background_init_if_securityindex_not_exist";
+    public static final String SECURITY_CONFIG_SNAPSHOT_ENABLED = "plugins.security.config_snapshot.enabled";
+    public static final String SECURITY_CONFIG_SNAPSHOT_PATH = "plugins.security.config_snapshot.path";
 
     public static final String SECURITY_ROLES_MAPPING_RESOLUTION = "plugins.security.roles_mapping_resolution";
 
@@ -250,6 +282,9 @@ public class ConfigConstants {
 
     public static final String SECURITY_FILTER_SECURITYINDEX_FROM_ALL_REQUESTS = "plugins.security.filter_securityindex_from_all_requests";
     public static final String SECURITY_DLS_MODE = "plugins.security.dls.mode";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES = "plugins.security.dls.terms_lookup.bypass_lookup_index_privileges";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS = "plugins.security.dls.terms_lookup_cache.ttl_seconds";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_ENTRIES = "plugins.security.dls.terms_lookup_cache.max_entries";
     // REST API
     public static final String SECURITY_RESTAPI_ROLES_ENABLED = "plugins.security.restapi.roles_enabled";
     public static final String SECURITY_RESTAPI_ENDPOINTS_DISABLED = "plugins.security.restapi.endpoints_disabled";
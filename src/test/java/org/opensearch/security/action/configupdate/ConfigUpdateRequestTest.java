@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+
+public class ConfigUpdateRequestTest {
+
+    @Test
+    public void testPayloadSerialization() throws Exception {
+        final String source = "{\"_meta\":{\"type\":\"roles\",\"config_version\":2},\"role\":{\"cluster_permissions\":[\"cluster_monitor\"]}}";
+        final ConfigUpdateRequest request = new ConfigUpdateRequest(new String[] { "roles" });
+        request.setPayloads(Collections.singletonList(new ConfigPayload("roles", 5, 2, new BytesArray(source))));
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        request.writeTo(out);
+        final ConfigUpdateRequest deserialized;
+        try (StreamInput in = out.bytes().streamInput()) {
+            deserialized = new ConfigUpdateRequest(in);
+        }
+
+        Assert.assertArrayEquals(new String[] { "roles" }, deserialized.getConfigTypes());
+        Assert.assertEquals(1, deserialized.getPayloads().size());
+        final ConfigPayload payload = deserialized.getPayloads().get(0);
+        Assert.assertEquals("roles", payload.getConfigType());
+        Assert.assertEquals(5, payload.getSeqNo());
+        Assert.assertEquals(2, payload.getPrimaryTerm());
+        Assert.assertEquals(source, payload.getSource().utf8ToString());
+    }
+
+    @Test
+    public void testPayloadsAreNotSentToOlderNodes() throws Exception {
+        final ConfigUpdateRequest request = new ConfigUpdateRequest(new String[] { "roles" });
+        request.setPayloads(Collections.singletonList(new ConfigPayload("roles", 5, 2, new BytesArray("{}"))));
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_1_3_0);
+        request.writeTo(out);
+        final ConfigUpdateRequest deserialized;
+        try (StreamInput in = out.bytes().streamInput()) {
+            in.setVersion(Version.V_1_3_0);
+            deserialized = new ConfigUpdateRequest(in);
+            Assert.assertEquals(0, in.available());
+        }
+
+        Assert.assertArrayEquals(new String[] { "roles" }, deserialized.getConfigTypes());
+        Assert.assertTrue(deserialized.getPayloads().isEmpty());
+    }
+}
@@ -126,4 +126,29 @@ public class AuditConfigFilterTest {
         assertTrue(auditConfigFilter.getDisabledRestCategories().isEmpty());
         assertTrue(auditConfigFilter.getDisabledTransportCategories().isEmpty());
     }
+
+    @Test
+    public void testDecisionTable() {
+        // arrange
+        final Settings settings = Settings.builder()
+                .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_ENABLE_REST, false)
+                .putList(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_IGNORE_REQUESTS, "indices:data/read/*")
+                .putList(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_CONFIG_DISABLED_TRANSPORT_CATEGORIES, "GRANTED_PRIVILEGES")
+                .build();
+        // act
+        final AuditConfig.Filter auditConfigFilter = AuditConfig.Filter.from(settings);
+        // assert
+        for (AuditCategory category : AuditCategory.values()) {
+            assertFalse(auditConfigFilter.isRestCategoryAudited(category));
+            assertEquals(category != GRANTED_PRIVILEGES, auditConfigFilter.isTransportCategoryAudited(category));
+        }
+        assertTrue(auditConfigFilter.isTransportRequestAuditDisabled("indices:data/read/search"));
+        assertTrue(auditConfigFilter.isTransportRequestAuditDisabled("indices:data/read/search"));
+        assertFalse(auditConfigFilter.isTransportRequestAuditDisabled("indices:data/write/index"));
+        assertEquals(2, auditConfigFilter.getCachedRequestCount());
+        // REST paths contain index names and ids, they are not cached
+        assertFalse(auditConfigFilter.isRequestAuditDisabled("/index/_doc/1"));
+        assertTrue(auditConfigFilter.isRequestAuditDisabled("indices:data/read/get"));
+        assertEquals(2, auditConfigFilter.getCachedRequestCount());
+    }
 }
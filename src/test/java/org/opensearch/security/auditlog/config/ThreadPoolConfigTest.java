@@ -63,6 +63,15 @@ public class ThreadPoolConfigTest {
         new ThreadPoolConfig(1, 0);
     }
 
+    @Test
+    public void testTooLongQueueLengthThrowsException() {
+        // arrange
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Incorrect thread pool queue length: 16777217 configured for audit logging.");
+        // act
+        new ThreadPoolConfig(1, ThreadPoolConfig.MAX_THREAD_POOL_MAX_QUEUE_LEN + 1);
+    }
+
     @Test
     public void testConfig() {
         // arrange
@@ -86,4 +95,28 @@ public class ThreadPoolConfigTest {
         assertEquals(8, config.getThreadPoolSize());
         assertEquals(50, config.getThreadPoolMaxQueueLen());
     }
+
+    @Test
+    public void testOverflowPolicyFromSettings() {
+        // arrange
+        Settings settings = Settings.builder()
+                .put("plugins.security.audit.threadpool.overflow_policy", "drop_oldest")
+                .put("plugins.security.audit.threadpool.block_timeout_ms", "20")
+                .build();
+
+        // assert
+        ThreadPoolConfig config = ThreadPoolConfig.getConfig(settings);
+        assertEquals(ThreadPoolConfig.OverflowPolicy.DROP_OLDEST, config.getOverflowPolicy());
+        assertEquals(20, config.getBlockTimeoutMs());
+        assertEquals(ThreadPoolConfig.OverflowPolicy.FALLBACK, ThreadPoolConfig.getConfig(Settings.EMPTY).getOverflowPolicy());
+    }
+
+    @Test
+    public void testInvalidOverflowPolicy() {
+        // assert
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Incorrect overflow policy: unknown configured for audit logging.");
+        // act
+        ThreadPoolConfig.getConfig(Settings.builder().put("plugins.security.audit.threadpool.overflow_policy", "unknown").build());
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+
+public class AuditMessageAggregatorTest {
+
+    @Test
+    public void testIdenticalMessagesAreCoalesced() {
+        final List<AuditMessage> stored = new ArrayList<>();
+        final AuditMessageAggregator aggregator = new AuditMessageAggregator(ImmutableSet.of(AuditCategory.GRANTED_PRIVILEGES), 3600_000L, 100, stored::add);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(aggregator.aggregate(MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES)));
+        }
+        final AuditMessage otherUser = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+        otherUser.addEffectiveUser("Jane Doe");
+        Assert.assertTrue(aggregator.aggregate(otherUser));
+        Assert.assertFalse(aggregator.aggregate(MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN)));
+        Assert.assertTrue(stored.isEmpty());
+
+        aggregator.close();
+
+        Assert.assertEquals(2, stored.size());
+        for (AuditMessage msg : stored) {
+            final Map<String, Object> fields = msg.getAsMap();
+            if ("Jane Doe".equals(msg.getEffectiveUser())) {
+                Assert.assertNull(fields.get(AuditMessage.AGGREGATION_COUNT));
+            } else {
+                Assert.assertEquals(5L, fields.get(AuditMessage.AGGREGATION_COUNT));
+                Assert.assertEquals(fields.get(AuditMessage.UTC_TIMESTAMP), fields.get(AuditMessage.AGGREGATION_FIRST_TIMESTAMP));
+                Assert.assertNotNull(fields.get(AuditMessage.AGGREGATION_LAST_TIMESTAMP));
+            }
+        }
+    }
+
+    @Test
+    public void testMessagesWithIndicesAreCoalesced() {
+        final List<AuditMessage> stored = new ArrayList<>();
+        final AuditMessageAggregator aggregator = new AuditMessageAggregator(ImmutableSet.of(AuditCategory.GRANTED_PRIVILEGES), 3600_000L, 100, stored::add);
+
+        for (int i = 0; i < 3; i++) {
+            //every request resolves its indices into new arrays
+            final AuditMessage msg = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+            msg.addPrivilege("indices:data/read/search");
+            msg.addIndices(new String[] { "logs-*" });
+            msg.addResolvedIndices(new String[] { "logs-1", "logs-2" });
+            Assert.assertTrue(aggregator.aggregate(msg));
+        }
+        final AuditMessage otherIndices = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+        otherIndices.addPrivilege("indices:data/read/search");
+        otherIndices.addIndices(new String[] { "logs-*" });
+        otherIndices.addResolvedIndices(new String[] { "logs-1" });
+        Assert.assertTrue(aggregator.aggregate(otherIndices));
+
+        aggregator.close();
+
+        Assert.assertEquals(2, stored.size());
+        for (AuditMessage msg : stored) {
+            final String[] resolvedIndices = (String[]) msg.getAsMap().get(AuditMessage.RESOLVED_INDICES);
+            Assert.assertEquals(resolvedIndices.length == 2 ? 3L : null, msg.getAsMap().get(AuditMessage.AGGREGATION_COUNT));
+        }
+    }
+
+    @Test
+    public void testMessagesWithDifferentBodiesAreNotCoalesced() {
+        final List<AuditMessage> stored = new ArrayList<>();
+        final AuditMessageAggregator aggregator = new AuditMessageAggregator(ImmutableSet.of(AuditCategory.GRANTED_PRIVILEGES), 3600_000L, 100, stored::add);
+
+        for (int i = 0; i < 3; i++) {
+            //task ids are unique for every request
+            final AuditMessage msg = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+            msg.addTaskId(i);
+            msg.addTaskParentId("node:" + i);
+            msg.addUnescapedJsonToRequestBody("{\"query\":{\"match_all\":{}}}");
+            Assert.assertTrue(aggregator.aggregate(msg));
+        }
+        final AuditMessage otherBody = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+        otherBody.addUnescapedJsonToRequestBody("{\"query\":{\"term\":{\"user\":\"admin\"}}}");
+        Assert.assertTrue(aggregator.aggregate(otherBody));
+        final AuditMessage exception = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+        exception.addUnescapedJsonToRequestBody("{\"query\":{\"match_all\":{}}}");
+        exception.addException(new IllegalStateException("failed"));
+        Assert.assertTrue(aggregator.aggregate(exception));
+
+        aggregator.close();
+
+        Assert.assertEquals(3, stored.size());
+        Assert.assertTrue(stored.contains(otherBody));
+        Assert.assertTrue(stored.contains(exception));
+        Assert.assertNull(otherBody.getAsMap().get(AuditMessage.AGGREGATION_COUNT));
+        Assert.assertNull(exception.getAsMap().get(AuditMessage.AGGREGATION_COUNT));
+        for (AuditMessage msg : stored) {
+            if (msg != otherBody && msg != exception) {
+                Assert.assertEquals(3L, msg.getAsMap().get(AuditMessage.AGGREGATION_COUNT));
+            }
+        }
+    }
+
+    @Test
+    public void testMaxPending() {
+        final List<AuditMessage> stored = new ArrayList<>();
+        final AuditMessageAggregator aggregator = new AuditMessageAggregator(ImmutableSet.of(AuditCategory.GRANTED_PRIVILEGES), 3600_000L, 1, stored::add);
+
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES);
+        second.addEffectiveUser("Jane Doe");
+
+        Assert.assertTrue(aggregator.aggregate(first));
+        Assert.assertFalse(aggregator.aggregate(second));
+        Assert.assertTrue(aggregator.aggregate(MockAuditMessageFactory.validAuditMessage(AuditCategory.GRANTED_PRIVILEGES)));
+
+        aggregator.flush();
+        Assert.assertEquals(1, stored.size());
+        Assert.assertTrue(aggregator.aggregate(second));
+        aggregator.close();
+    }
+}
@@ -34,7 +34,10 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -139,4 +142,21 @@ public class AuditMessageTest {
         message.addSecurityConfigTupleToRequestBody(new Tuple<>(XContentType.JSON, ref), internalUsersDocId);
         assertEquals("Hash in tuple is __HASH__", message.getAsMap().get(AuditMessage.REQUEST_BODY));
     }
+
+    @Test
+    public void testJsonIsEncodedOnceUntilModified() {
+        final byte[] json = message.toJsonBytes();
+        assertSame(json, message.toJsonBytes());
+        assertEquals(message.toString(), message.toJson());
+
+        message.addEffectiveUser("admin");
+        final byte[] modified = message.toJsonBytes();
+        assertNotSame(json, modified);
+        assertTrue(message.toString().contains("\"audit_request_effective_user\":\"admin\""));
+
+        final AuditMessage restored = AuditMessage.fromJsonBytes(modified);
+        assertEquals(AuditCategory.AUTHENTICATED, restored.getCategory());
+        assertEquals(message.getAsMap().get(AuditMessage.ORIGIN), restored.getAsMap().get(AuditMessage.ORIGIN));
+        assertEquals(message.toJson(), restored.toJson());
+    }
 }
@@ -96,7 +96,7 @@ public class AuditlogTest {
     }
 
     @Test
-    public void testRetry() {
+    public void testRetry() throws Exception {
 
         RetrySink.init();
 
@@ -106,10 +106,14 @@ public class AuditlogTest {
                 .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_ENABLE_REST, true)
                 .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_RESOLVE_BULK_REQUESTS, true)
                 .put(ConfigConstants.SECURITY_AUDIT_RETRY_COUNT, 10)
-                .put(ConfigConstants.SECURITY_AUDIT_RETRY_DELAY_MS, 500)
+                .put(ConfigConstants.SECURITY_AUDIT_RETRY_DELAY_MS, 50)
                 .build();
         AbstractAuditLog al = AuditTestUtils.createAuditLog(settings, null,  null, AbstractSecurityUnitTest.MOCK_POOL, null, cs);
         al.logSSLException(null, new Exception("test retry"));
+        //retries are scheduled in the background
+        for (int i = 0; i < 100 && RetrySink.getMsg() == null; i++) {
+            Thread.sleep(100);
+        }
         Assert.assertNotNull(RetrySink.getMsg());
         Assert.assertTrue(RetrySink.getMsg().toJson().contains("test retry"));
     }
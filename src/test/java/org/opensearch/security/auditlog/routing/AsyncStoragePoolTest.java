@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.settings.Settings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.security.auditlog.config.ThreadPoolConfig;
+import org.opensearch.security.auditlog.config.ThreadPoolConfig.OverflowPolicy;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+
+public class AsyncStoragePoolTest {
+
+    @Test
+    public void testDropNewest() throws Exception {
+        final BlockingSink sink = new BlockingSink(null);
+        final AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(1, 2, OverflowPolicy.DROP_NEWEST, 0));
+
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        Assert.assertEquals(2, pool.getQueueDepth());
+        Assert.assertEquals(1, pool.getDroppedCount());
+
+        sink.release.countDown();
+        pool.close();
+        Assert.assertEquals(3, sink.stored.size());
+        Assert.assertEquals(3, pool.getStoredCount());
+        Assert.assertEquals(0, pool.getQueueDepth());
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        final BlockingSink sink = new BlockingSink(null);
+        final AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(1, 2, OverflowPolicy.DROP_OLDEST, 0));
+
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+
+        final AuditMessage oldest = MockAuditMessageFactory.validAuditMessage();
+        pool.submit(oldest, sink);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        Assert.assertEquals(1, pool.getDroppedCount());
+
+        sink.release.countDown();
+        pool.close();
+        Assert.assertEquals(3, sink.stored.size());
+        Assert.assertFalse(sink.stored.contains(oldest));
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final BlockingSink sink = new BlockingSink(fallback);
+        final AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(1, 2));
+
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        final AuditMessage overflow = MockAuditMessageFactory.validAuditMessage();
+        pool.submit(overflow, sink);
+        Assert.assertEquals(Collections.singletonList(overflow), fallback.messages);
+        Assert.assertEquals(0, pool.getDroppedCount());
+
+        sink.release.countDown();
+        pool.close();
+        Assert.assertEquals(3, sink.stored.size());
+    }
+
+    @Test
+    public void testRingBufferConcurrentProducers() throws Exception {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(1000);
+        Assert.assertEquals(1000, buffer.capacity());
+
+        final Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            final int offset = p * 256;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 256; i++) {
+                    buffer.offer(offset + i);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        Assert.assertFalse(buffer.offer(-1));
+        final Set<Integer> polled = new HashSet<>();
+        for (Integer i = buffer.poll(); i != null; i = buffer.poll()) {
+            polled.add(i);
+        }
+        Assert.assertEquals(1000, polled.size());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testRingBufferIsLimitedToCapacity() {
+        final RingBuffer<Integer> single = new RingBuffer<>(1);
+        for (int lap = 0; lap < 3; lap++) {
+            Assert.assertTrue(single.offer(lap));
+            Assert.assertFalse(single.offer(-1));
+            Assert.assertEquals(1, single.size());
+            Assert.assertEquals(Integer.valueOf(lap), single.poll());
+            Assert.assertNull(single.poll());
+        }
+
+        //the slots are rounded up to 8, but only 5 elements are accepted
+        final RingBuffer<Integer> buffer = new RingBuffer<>(5);
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 5; i++) {
+                Assert.assertTrue(buffer.offer(i));
+            }
+            Assert.assertFalse(buffer.offer(-1));
+            Assert.assertEquals(5, buffer.size());
+            Assert.assertEquals(Integer.valueOf(0), buffer.poll());
+            Assert.assertTrue(buffer.offer(5));
+            Assert.assertFalse(buffer.offer(-1));
+            for (int i = 1; i <= 5; i++) {
+                Assert.assertEquals(Integer.valueOf(i), buffer.poll());
+            }
+            Assert.assertTrue(buffer.isEmpty());
+        }
+    }
+
+    private static class BlockingSink extends AuditLogSink {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Set<AuditMessage> stored = Collections.synchronizedSet(new HashSet<>());
+
+        BlockingSink(AuditLogSink fallbackSink) {
+            super("blocking", Settings.EMPTY, null, fallbackSink);
+        }
+
+        @Override
+        protected boolean doStore(AuditMessage msg) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stored.add(msg);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.common.settings.Settings;
+
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+public class AuditLogSinkTest {
+
+    @Test
+    public void testRetriesDoNotBlockTheCaller() throws Exception {
+        final Settings settings = Settings.builder()
+                .put(ConfigConstants.SECURITY_AUDIT_RETRY_COUNT, 3)
+                .put(ConfigConstants.SECURITY_AUDIT_RETRY_DELAY_MS, 10000)
+                .build();
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final CountingSink sink = new CountingSink(settings, fallback, 1);
+        sink.startBackgroundTasks();
+
+        final long start = System.nanoTime();
+        sink.store(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        Assert.assertEquals(1, sink.attempts.get());
+        Assert.assertEquals(1, sink.getRetryCount());
+
+        //the pending retry is handed to the fallback sink on shutdown
+        sink.stopBackgroundTasks();
+        Assert.assertEquals(1, fallback.messages.size());
+    }
+
+    @Test
+    public void testRetryWithBackoff() throws Exception {
+        final Settings settings = Settings.builder()
+                .put(ConfigConstants.SECURITY_AUDIT_RETRY_COUNT, 5)
+                .put(ConfigConstants.SECURITY_AUDIT_RETRY_DELAY_MS, 10)
+                .build();
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final CountingSink sink = new CountingSink(settings, fallback, 3);
+        sink.startBackgroundTasks();
+
+        sink.store(MockAuditMessageFactory.validAuditMessage());
+        for (int i = 0; i < 100 && sink.stored.get() == 0; i++) {
+            Thread.sleep(50);
+        }
+
+        Assert.assertEquals(1, sink.stored.get());
+        Assert.assertEquals(4, sink.attempts.get());
+        Assert.assertEquals(3, sink.getRetryCount());
+        Assert.assertTrue(fallback.messages.isEmpty());
+        sink.stopBackgroundTasks();
+    }
+
+    @Test
+    public void testCircuitBreakerSkipsToFallback() {
+        final Settings settings = Settings.builder()
+                .put(ConfigConstants.SECURITY_AUDIT_CIRCUIT_BREAKER_FAILURE_THRESHOLD, 3)
+                .put(ConfigConstants.SECURITY_AUDIT_CIRCUIT_BREAKER_OPEN_MS, 60000)
+                .build();
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final CountingSink sink = new CountingSink(settings, fallback, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 10; i++) {
+            sink.store(MockAuditMessageFactory.validAuditMessage());
+        }
+
+        Assert.assertEquals(3, sink.attempts.get());
+        Assert.assertEquals(3, sink.getFailedCount());
+        Assert.assertEquals(7, sink.getSkippedCount());
+        Assert.assertEquals(10, fallback.messages.size());
+    }
+
+    @Test
+    public void testCircuitBreakerCloses() throws Exception {
+        final SinkCircuitBreaker breaker = new SinkCircuitBreaker(2, 50);
+        breaker.onFailure();
+        Assert.assertTrue(breaker.allowRequest());
+        Assert.assertTrue(breaker.onFailure());
+        Assert.assertFalse(breaker.allowRequest());
+
+        Thread.sleep(100);
+        //a single probe is let through
+        Assert.assertTrue(breaker.allowRequest());
+        Assert.assertFalse(breaker.allowRequest());
+        breaker.onSuccess();
+        Assert.assertFalse(breaker.isOpen());
+        Assert.assertTrue(breaker.allowRequest());
+    }
+
+    private static class CountingSink extends AuditLogSink {
+
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger stored = new AtomicInteger();
+        private final int failures;
+
+        CountingSink(final Settings settings, final AuditLogSink fallbackSink, final int failures) {
+            super("counting", settings, null, fallbackSink);
+            this.failures = failures;
+        }
+
+        @Override
+        protected boolean doStore(AuditMessage msg) {
+            if (attempts.incrementAndGet() <= failures) {
+                return false;
+            }
+            stored.incrementAndGet();
+            return true;
+        }
+    }
+}
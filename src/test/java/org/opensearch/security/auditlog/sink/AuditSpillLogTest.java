@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opensearch.common.settings.Settings;
+
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+public class AuditSpillLogTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void testRecordsSurviveRestart() throws Exception {
+        final Path dir = testFolder.newFolder().toPath();
+
+        AuditSpillLog spillLog = new AuditSpillLog(dir, 64, 1024);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(spillLog.append(("record" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        Assert.assertEquals("record0", new String(spillLog.peek(), StandardCharsets.UTF_8));
+        spillLog.remove();
+        spillLog.remove();
+        spillLog.close();
+
+        spillLog = new AuditSpillLog(dir, 64, 1024);
+        final List<String> records = new ArrayList<>();
+        for (byte[] record = spillLog.peek(); record != null; record = spillLog.peek()) {
+            records.add(new String(record, StandardCharsets.UTF_8));
+            spillLog.remove();
+        }
+        Assert.assertEquals(8, records.size());
+        Assert.assertEquals("record2", records.get(0));
+        Assert.assertEquals("record9", records.get(7));
+        Assert.assertTrue(spillLog.isEmpty());
+        //consumed segments are deleted, only the segment to append to is kept
+        Assert.assertEquals(1, listFiles(dir).size());
+    }
+
+    @Test
+    public void testSizeLimit() throws Exception {
+        final AuditSpillLog spillLog = new AuditSpillLog(testFolder.newFolder().toPath(), 32, 64);
+        Assert.assertFalse(spillLog.append(new byte[32]));
+        Assert.assertTrue(spillLog.append(new byte[20]));
+        Assert.assertTrue(spillLog.append(new byte[20]));
+        Assert.assertFalse(spillLog.append(new byte[20]));
+
+        spillLog.remove();
+        Assert.assertTrue(spillLog.append(new byte[20]));
+    }
+
+    @Test
+    public void testCorruptedRecordEndsSegment() throws Exception {
+        final Path dir = testFolder.newFolder().toPath();
+
+        AuditSpillLog spillLog = new AuditSpillLog(dir, 1024, 1024);
+        spillLog.append("first".getBytes(StandardCharsets.UTF_8));
+        spillLog.append("second".getBytes(StandardCharsets.UTF_8));
+        spillLog.close();
+
+        try (FileChannel channel = FileChannel.open(listFiles(dir).get(0), StandardOpenOption.WRITE)) {
+            //overwrite the first byte of the payload of the second record
+            channel.write(ByteBuffer.wrap(new byte[] { 'X' }), 8 + 5 + 8);
+        }
+
+        spillLog = new AuditSpillLog(dir, 1024, 1024);
+        Assert.assertEquals("first", new String(spillLog.peek(), StandardCharsets.UTF_8));
+        spillLog.remove();
+        Assert.assertNull(spillLog.peek());
+        spillLog.append("third".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("third", new String(spillLog.peek(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSinkSpillsAndReplays() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final UnavailableSink sink = new UnavailableSink(spillSettings(60000), fallback);
+        sink.startBackgroundTasks();
+
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+        sink.store(first);
+        Assert.assertTrue(sink.messages.isEmpty());
+        sink.available = true;
+        //delivered right away, the spilled message is replayed without waiting for the replay interval
+        sink.store(second);
+
+        awaitMessages(sink, 2);
+        sink.stopBackgroundTasks();
+
+        Assert.assertTrue(fallback.messages.isEmpty());
+        Assert.assertEquals(2, sink.messages.size());
+        Assert.assertEquals(AuditCategory.MISSING_PRIVILEGES, sink.messages.get(0).getCategory());
+        Assert.assertEquals(second.getRequestType(), sink.messages.get(0).getRequestType());
+        Assert.assertEquals(first.toJson(), sink.messages.get(1).toJson());
+    }
+
+    @Test
+    public void testSpillIsAppendedInTheBackground() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final UnavailableSink sink = new UnavailableSink(spillSettings(10), fallback);
+
+        //without a spill log the message is stored in the fallback sink
+        sink.spill(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertEquals(1, fallback.messages.size());
+
+        sink.startBackgroundTasks();
+        sink.spill(MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN));
+        sink.available = true;
+
+        awaitMessages(sink, 1);
+        sink.stopBackgroundTasks();
+
+        Assert.assertEquals(1, fallback.messages.size());
+        Assert.assertEquals(1, sink.messages.size());
+        Assert.assertEquals(AuditCategory.FAILED_LOGIN, sink.messages.get(0).getCategory());
+    }
+
+    private Settings spillSettings(final long replayIntervalMs) throws Exception {
+        return Settings.builder()
+                .put(ConfigConstants.SECURITY_AUDIT_SPILL_ENABLED, true)
+                .put(ConfigConstants.SECURITY_AUDIT_SPILL_PATH, testFolder.newFolder().getAbsolutePath())
+                .put(ConfigConstants.SECURITY_AUDIT_SPILL_SEGMENT_SIZE, "64kb")
+                .put(ConfigConstants.SECURITY_AUDIT_SPILL_REPLAY_INTERVAL_MS, replayIntervalMs)
+                .build();
+    }
+
+    private static void awaitMessages(final UnavailableSink sink, final int count) throws InterruptedException {
+        for (int i = 0; i < 500 && sink.size() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Path> listFiles(final Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static class UnavailableSink extends AuditLogSink {
+
+        final List<AuditMessage> messages = new ArrayList<>();
+        volatile boolean available;
+
+        UnavailableSink(final Settings settings, final AuditLogSink fallbackSink) {
+            super("unavailable", settings, null, fallbackSink);
+        }
+
+        @Override
+        protected synchronized boolean doStore(AuditMessage msg) {
+            if (available) {
+                messages.add(msg);
+            }
+            return available;
+        }
+
+        synchronized int size() {
+            return messages.size();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+public class ExternalOpenSearchSinkTest {
+
+    private final BulkHandler handler = new BulkHandler();
+    private final LoggingSink fallback = new SynchronizedLoggingSink();
+    private HttpServer server;
+    private ExternalOpenSearchSink sink;
+
+    @Before
+    public void setUp() throws Exception {
+        final int port = findFreePort();
+        server = ServerBootstrap.bootstrap()
+                .setListenerPort(port)
+                .setServerInfo("Test/1.1")
+                .registerHandler("*", handler)
+                .create();
+        server.start();
+
+        sink = new ExternalOpenSearchSink("external", Settings.builder()
+                .putList("sink." + ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_HTTP_ENDPOINTS, "localhost:" + port)
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_INDEX, "auditlog")
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED, true)
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS, 2)
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL, "1h")
+                .build(), "sink", null, fallback);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        handler.release.countDown();
+        sink.close();
+        server.shutdown(3, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testBulkIsFlushedByCount() throws Exception {
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+
+        sink.store(first);
+        Thread.sleep(100);
+        Assert.assertEquals(0, handler.bulkCount());
+        sink.store(second);
+
+        final List<String> documents = handler.awaitBulk(0);
+        Assert.assertTrue(handler.uris.get(0), handler.uris.get(0).startsWith("/_bulk"));
+        Assert.assertEquals(2, documents.size());
+        Assert.assertEquals(first.toJson(), documents.get(0));
+        Assert.assertEquals(second.toJson(), documents.get(1));
+        Assert.assertTrue(fallback.messages.isEmpty());
+    }
+
+    @Test
+    public void testPendingMessagesAreFlushedOnClose() throws Exception {
+        final AuditMessage msg = MockAuditMessageFactory.validAuditMessage();
+        sink.store(msg);
+        Assert.assertEquals(0, handler.bulkCount());
+
+        sink.close();
+        Assert.assertEquals(1, handler.bulkCount());
+        Assert.assertEquals(Collections.singletonList(msg.toJson()), handler.awaitBulk(0));
+        Assert.assertTrue(fallback.messages.isEmpty());
+    }
+
+    @Test
+    public void testFailedItemsAreStoredInFallbackSink() throws Exception {
+        handler.failedItem = 1;
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+
+        sink.store(first);
+        sink.store(second);
+
+        awaitFallback(1);
+        Assert.assertEquals(1, fallback.messages.size());
+        Assert.assertSame(second, fallback.messages.get(0));
+    }
+
+    @Test
+    public void testFailedBulkIsStoredInFallbackSink() throws Exception {
+        handler.failedItem = -1;
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+
+        sink.store(first);
+        sink.store(second);
+
+        awaitFallback(2);
+        Assert.assertEquals(2, fallback.messages.size());
+        Assert.assertSame(first, fallback.messages.get(0));
+        Assert.assertSame(second, fallback.messages.get(1));
+    }
+
+    @Test
+    public void testAddBlocksWhileConcurrentRequestsAreInFlight() throws Exception {
+        handler.release = new CountDownLatch(1);
+        sink.store(MockAuditMessageFactory.validAuditMessage());
+        sink.store(MockAuditMessageFactory.validAuditMessage());
+
+        //bulk.concurrent_requests defaults to 1, so the next flush waits for the first bulk request
+        final Thread worker = new Thread(() -> {
+            sink.store(MockAuditMessageFactory.validAuditMessage());
+            sink.store(MockAuditMessageFactory.validAuditMessage());
+        });
+        worker.start();
+        worker.join(500);
+        Assert.assertTrue(worker.isAlive());
+        Assert.assertEquals(1, handler.bulkCount());
+
+        handler.release.countDown();
+        worker.join(10000);
+        Assert.assertFalse(worker.isAlive());
+        Assert.assertEquals(2, handler.awaitBulk(1).size());
+        Assert.assertTrue(fallback.messages.isEmpty());
+    }
+
+    private void awaitFallback(final int count) throws InterruptedException {
+        for (int i = 0; i < 500 && fallback.messages.size() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to find free port", e);
+        }
+    }
+
+    private static class SynchronizedLoggingSink extends LoggingSink {
+
+        SynchronizedLoggingSink() {
+            super("fallback", Settings.EMPTY, null, null);
+            messages = Collections.synchronizedList(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Answers bulk requests like OpenSearch and records the indexed documents
+     */
+    private static class BulkHandler implements HttpRequestHandler {
+
+        final List<String> uris = Collections.synchronizedList(new ArrayList<>());
+        final List<List<String>> bulks = Collections.synchronizedList(new ArrayList<>());
+        //index of the bulk item to fail, -1 to fail the whole bulk request
+        volatile Integer failedItem;
+        volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override
+        public void handle(HttpRequest request, HttpResponse response, HttpContext context) throws IOException {
+            final String body = EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity(), StandardCharsets.UTF_8);
+            final List<String> documents = new ArrayList<>();
+            final String[] lines = body.split("\n");
+            for (int i = 1; i < lines.length; i += 2) {
+                documents.add(lines[i]);
+            }
+            uris.add(request.getRequestLine().getUri());
+            bulks.add(documents);
+
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failedItem != null && failedItem < 0) {
+                response.setStatusCode(503);
+                response.setEntity(new StringEntity("{\"error\":{\"type\":\"unavailable\",\"reason\":\"unavailable\"},\"status\":503}",
+                        ContentType.APPLICATION_JSON));
+                return;
+            }
+
+            final StringBuilder items = new StringBuilder();
+            for (int i = 0; i < documents.size(); i++) {
+                if (i > 0) {
+                    items.append(',');
+                }
+                if (failedItem != null && failedItem == i) {
+                    items.append("{\"index\":{\"_index\":\"auditlog\",\"_id\":\"").append(i)
+                            .append("\",\"status\":400,\"error\":{\"type\":\"mapper_parsing_exception\",\"reason\":\"failed to parse\"}}}");
+                } else {
+                    items.append("{\"index\":{\"_index\":\"auditlog\",\"_id\":\"").append(i)
+                            .append("\",\"_version\":1,\"result\":\"created\",\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},")
+                            .append("\"_seq_no\":").append(i).append(",\"_primary_term\":1,\"status\":201}}");
+                }
+            }
+            response.setStatusCode(200);
+            response.setEntity(new StringEntity("{\"took\":1,\"errors\":" + (failedItem != null) + ",\"items\":[" + items + "]}",
+                    ContentType.APPLICATION_JSON));
+        }
+
+        int bulkCount() {
+            return bulks.size();
+        }
+
+        List<String> awaitBulk(final int index) throws InterruptedException {
+            for (int i = 0; i < 500 && bulks.size() <= index; i++) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(bulks.size() > index);
+            return bulks.get(index);
+        }
+    }
+}
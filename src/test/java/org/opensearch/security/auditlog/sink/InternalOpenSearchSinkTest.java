@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class InternalOpenSearchSinkTest {
+
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    private final List<BulkRequest> bulkRequests = new ArrayList<>();
+    private final List<String> confRequestHeaders = new ArrayList<>();
+    private final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+    //index of the bulk item to fail, -1 to fail the whole bulk request
+    private Integer failedItem;
+    private InternalOpenSearchSink sink;
+
+    @Before
+    public void setUp() {
+        final ThreadPool threadPool = Mockito.mock(ThreadPool.class);
+        Mockito.when(threadPool.getThreadContext()).thenReturn(threadContext);
+        final Client client = Mockito.mock(Client.class);
+        Mockito.doAnswer(invocation -> {
+            final BulkRequest request = invocation.getArgument(0);
+            final ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            bulkRequests.add(request);
+            confRequestHeaders.add(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER));
+            if (failedItem != null && failedItem < 0) {
+                listener.onFailure(new Exception("cluster unavailable"));
+            } else {
+                listener.onResponse(respond(request));
+            }
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        sink = new InternalOpenSearchSink("internal", Settings.builder()
+                .put("sink.type", "internal_opensearch")
+                .put("sink.index", "auditlog")
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED, true)
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS, 2)
+                .put("sink." + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL, "1h")
+                .build(), "sink", null, client, threadPool, fallback);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        sink.close();
+    }
+
+    @Test
+    public void testBulkIsFlushedByCount() {
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+
+        sink.store(first);
+        Assert.assertTrue(bulkRequests.isEmpty());
+        sink.store(second);
+
+        Assert.assertEquals(1, bulkRequests.size());
+        final BulkRequest bulkRequest = bulkRequests.get(0);
+        Assert.assertEquals(2, bulkRequest.numberOfActions());
+        //bulk requests do not force a refresh
+        Assert.assertEquals(RefreshPolicy.NONE, bulkRequest.getRefreshPolicy());
+        Assert.assertEquals("auditlog", bulkRequest.requests().get(0).index());
+        Assert.assertEquals(first.toJson(), ((IndexRequest) bulkRequest.requests().get(0)).source().utf8ToString());
+        Assert.assertEquals(second.toJson(), ((IndexRequest) bulkRequest.requests().get(1)).source().utf8ToString());
+        //the audit log of the audit log is suppressed
+        Assert.assertEquals("true", confRequestHeaders.get(0));
+        Assert.assertNull(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER));
+        Assert.assertTrue(fallback.messages.isEmpty());
+    }
+
+    @Test
+    public void testPendingMessagesAreFlushedOnClose() throws Exception {
+        sink.store(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertTrue(bulkRequests.isEmpty());
+
+        sink.close();
+        Assert.assertEquals(1, bulkRequests.size());
+        Assert.assertEquals(1, bulkRequests.get(0).numberOfActions());
+    }
+
+    @Test
+    public void testFailedItemsAreStoredInFallbackSink() {
+        failedItem = 1;
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+
+        sink.store(first);
+        sink.store(second);
+
+        Assert.assertEquals(1, fallback.messages.size());
+        Assert.assertSame(second, fallback.messages.get(0));
+    }
+
+    @Test
+    public void testFailedBulkIsStoredInFallbackSink() {
+        failedItem = -1;
+        final AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        final AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+
+        sink.store(first);
+        sink.store(second);
+
+        Assert.assertEquals(2, fallback.messages.size());
+        Assert.assertSame(first, fallback.messages.get(0));
+        Assert.assertSame(second, fallback.messages.get(1));
+    }
+
+    private BulkResponse respond(final BulkRequest request) {
+        final List<DocWriteRequest<?>> requests = request.requests();
+        final BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+        for (int i = 0; i < items.length; i++) {
+            final String index = requests.get(i).index();
+            if (failedItem != null && failedItem == i) {
+                items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+                        new BulkItemResponse.Failure(index, String.valueOf(i), new Exception("mapping conflict")));
+            } else {
+                items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+                        new IndexResponse(new ShardId(index, "_na_", 0), String.valueOf(i), i, 1, 1, true));
+            }
+        }
+        return new BulkResponse(items, 1);
+    }
+}
@@ -15,19 +15,30 @@
 
 package org.opensearch.security.auditlog.sink;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.common.xcontent.yaml.YamlXContent;
 import org.junit.Assert;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
 import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.test.helper.file.FileHelper;
 import org.springframework.kafka.test.rule.EmbeddedKafkaRule;
 
@@ -64,13 +75,87 @@ public class KafkaSinkTest extends AbstractAuditlogiUnitTest {
 
 	}
 
+	@Test
+	public void testPartitionKeyCategory() throws Exception {
+		final AuditMessage failedLogin = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+		final AuditMessage missingPrivileges = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+		final List<ConsumerRecord<String, byte[]>> records = storeAndPoll("compliance_category", "category", failedLogin, missingPrivileges);
+
+		Assert.assertEquals(2, records.size());
+		Assert.assertEquals("FAILED_LOGIN", records.get(0).key());
+		Assert.assertEquals("MISSING_PRIVILEGES", records.get(1).key());
+		assertJsonRoundTrip(failedLogin, records.get(0).value());
+		assertJsonRoundTrip(missingPrivileges, records.get(1).value());
+	}
+
+	@Test
+	public void testPartitionKeyUser() throws Exception {
+		final AuditMessage msg = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+		final List<ConsumerRecord<String, byte[]>> records = storeAndPoll("compliance_user", "user", msg);
+
+		Assert.assertEquals(1, records.size());
+		Assert.assertEquals("John Doe", records.get(0).key());
+		assertJsonRoundTrip(msg, records.get(0).value());
+	}
+
+	private List<ConsumerRecord<String, byte[]>> storeAndPoll(final String topic, final String partitionKey, final AuditMessage... messages) throws Exception {
+		embeddedKafka.getEmbeddedKafka().addTopics(topic);
+		String configYml = FileHelper.loadFile("auditlog/endpoints/sink/configuration_kafka.yml");
+		configYml = configYml.replace("_RPLC_BOOTSTRAP_SERVERS_",embeddedKafka.getEmbeddedKafka().getBrokersAsString());
+		Settings settings = Settings.builder().loadFromSource(configYml, YamlXContent.yamlXContent.type())
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT + ".topic_name", topic)
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT + ".partition_key", partitionKey)
+				.put("path.home", ".")
+				.build();
+
+		final Properties props = consumerProperties();
+		props.put("key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
+		props.put("value.deserializer", "org.apache.kafka.common.serialization.ByteArrayDeserializer");
+		try(KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(props)) {
+			consumer.subscribe(Arrays.asList(topic));
+
+			SinkProvider provider = new SinkProvider(settings, null, null, null);
+			AuditLogSink sink = provider.getDefaultSink();
+			try {
+				Assert.assertEquals(KafkaSink.class, sink.getClass());
+				for (AuditMessage msg : messages) {
+					Assert.assertTrue(sink.doStore(msg));
+				}
+				final List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+				for (int i = 0; i < 10 && records.size() < messages.length; i++) {
+					consumer.poll(Duration.ofSeconds(1)).forEach(records::add);
+				}
+				return records;
+			} finally {
+				sink.close();
+			}
+		}
+	}
+
+	private static void assertJsonRoundTrip(final AuditMessage msg, final byte[] value) throws Exception {
+		Assert.assertEquals(msg.toJson(), new String(value, StandardCharsets.UTF_8));
+		//the bytes on the wire carry the same JSON the sink used to produce from the message map
+		final String legacyJson = Strings.toString(JsonXContent.contentBuilder().map(msg.getAsMap()));
+		Assert.assertEquals(XContentHelper.convertToMap(JsonXContent.jsonXContent, legacyJson, false),
+				XContentHelper.convertToMap(new BytesArray(value), false, XContentType.JSON).v2());
+		final AuditMessage parsed = AuditMessage.fromJsonBytes(value);
+		Assert.assertEquals(msg.getCategory(), parsed.getCategory());
+		Assert.assertEquals(msg.getEffectiveUser(), parsed.getEffectiveUser());
+		Assert.assertEquals(msg.getRequestType(), parsed.getRequestType());
+	}
+
 	private KafkaConsumer<Long, String> createConsumer() {
+		Properties props = consumerProperties();
+		props.put("key.deserializer", "org.apache.kafka.common.serialization.LongDeserializer");
+		props.put("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
+		return new KafkaConsumer<>(props);
+	}
+
+	private Properties consumerProperties() {
 		Properties props = new Properties();
 		props.put("bootstrap.servers", embeddedKafka.getEmbeddedKafka().getBrokersAsString());
 		props.put("auto.offset.reset", "earliest");
 		props.put("group.id", "mygroup"+System.currentTimeMillis()+"_"+new Random().nextDouble());
-		props.put("key.deserializer", "org.apache.kafka.common.serialization.LongDeserializer");
-		props.put("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
-		return new KafkaConsumer<>(props);
+		return props;
 	}
 }
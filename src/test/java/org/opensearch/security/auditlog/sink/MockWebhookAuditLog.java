@@ -19,7 +19,7 @@ import org.opensearch.common.settings.Settings;
 
 public class MockWebhookAuditLog extends WebhookSink {
 
-	public String payload = null;
+	public volatile String payload = null;
 	public String url = null;
 
 	public MockWebhookAuditLog(Settings settings, String settingsPrefix, AuditLogSink fallback) throws Exception {
@@ -22,12 +22,20 @@ import java.net.ServerSocket;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.apache.http.impl.bootstrap.HttpServer;
 import org.apache.http.impl.bootstrap.ServerBootstrap;
@@ -38,6 +46,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.opensearch.security.auditlog.sink.WebhookSink.WebhookFormat;
+import org.opensearch.security.DefaultObjectMapper;
 import org.opensearch.security.auditlog.helper.LoggingSink;
 import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
 import org.opensearch.security.auditlog.helper.TestHttpHandler;
@@ -172,6 +181,161 @@ public class WebhookAuditLogTest {
 
 
 
+	@Test
+	public void batchFormatsTest() throws Exception {
+
+		Settings settings = Settings.builder()
+				.put("plugins.security.audit.config.webhook.url", "http://localhost")
+				.put("plugins.security.audit.config.webhook.format", "json")
+				.put("plugins.security.audit.config.webhook.batch.max_size", 2)
+				.put("path.home", ".")
+				.put(SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+						FileHelper.getAbsoluteFilePathFromClassPath("auditlog/truststore.jks"))
+				.build();
+		MockWebhookAuditLog auditlog = new MockWebhookAuditLog(settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null);
+		auditlog.store(MockAuditMessageFactory.validAuditMessage());
+		auditlog.store(MockAuditMessageFactory.validAuditMessage());
+		auditlog.close();
+		Assert.assertTrue(auditlog.payload, auditlog.payload.startsWith("[{") && auditlog.payload.endsWith("}]"));
+		Assert.assertEquals(2, DefaultObjectMapper.readTree(auditlog.payload).size());
+
+		// incomplete batches are sent on close
+		settings = Settings.builder().put(settings)
+				.put("plugins.security.audit.config.webhook.format", "ndjson")
+				.put("plugins.security.audit.config.webhook.batch.max_size", 10)
+				.build();
+		auditlog = new MockWebhookAuditLog(settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null);
+		Assert.assertEquals(WebhookFormat.NDJSON, auditlog.webhookFormat);
+		auditlog.store(MockAuditMessageFactory.validAuditMessage());
+		auditlog.store(MockAuditMessageFactory.validAuditMessage());
+		auditlog.store(MockAuditMessageFactory.validAuditMessage());
+		Assert.assertNull(auditlog.payload);
+		auditlog.close();
+		Assert.assertEquals(3, auditlog.payload.split("\n").length);
+		Assert.assertTrue(auditlog.payload.endsWith("}\n"));
+	}
+
+	@Test
+	public void batchNdjsonTest() throws Exception {
+		Settings settings = Settings.builder()
+				.put("plugins.security.audit.config.webhook.url", "http://localhost")
+				.put("plugins.security.audit.config.webhook.format", "ndjson")
+				.put("plugins.security.audit.config.webhook.batch.max_size", 2)
+				.put("path.home", ".")
+				.put(SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+						FileHelper.getAbsoluteFilePathFromClassPath("auditlog/truststore.jks"))
+				.build();
+		MockWebhookAuditLog auditlog = new MockWebhookAuditLog(settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null);
+		AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+		AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+		auditlog.store(first);
+		auditlog.store(second);
+		awaitPayload(auditlog);
+		auditlog.close();
+
+		// one JSON document per line, each line terminated by a newline
+		Assert.assertTrue(auditlog.payload.endsWith("\n"));
+		String[] lines = auditlog.payload.split("\n");
+		Assert.assertEquals(2, lines.length);
+		Assert.assertEquals(DefaultObjectMapper.readTree(first.toJson()), DefaultObjectMapper.readTree(lines[0]));
+		Assert.assertEquals(DefaultObjectMapper.readTree(second.toJson()), DefaultObjectMapper.readTree(lines[1]));
+	}
+
+	@Test
+	public void batchLingerTest() throws Exception {
+		Settings settings = Settings.builder()
+				.put("plugins.security.audit.config.webhook.url", "http://localhost")
+				.put("plugins.security.audit.config.webhook.format", "json")
+				.put("plugins.security.audit.config.webhook.batch.max_size", 10)
+				.put("plugins.security.audit.config.webhook.batch.linger_ms", 100)
+				.put("path.home", ".")
+				.put(SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+						FileHelper.getAbsoluteFilePathFromClassPath("auditlog/truststore.jks"))
+				.build();
+		MockWebhookAuditLog auditlog = new MockWebhookAuditLog(settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null);
+		try {
+			// the batch is not full, it is sent once the linger time elapsed
+			auditlog.store(MockAuditMessageFactory.validAuditMessage());
+			awaitPayload(auditlog);
+			Assert.assertEquals(1, DefaultObjectMapper.readTree(auditlog.payload).size());
+
+			// batches are sent by named daemon threads which do not keep the node from shutting down
+			boolean lingerThreadFound = false;
+			for (Thread thread : Thread.getAllStackTraces().keySet()) {
+				if (thread.getName().startsWith("opensearch-security-audit-webhook-")) {
+					Assert.assertTrue(thread.getName(), thread.isDaemon());
+					lingerThreadFound |= thread.getName().equals("opensearch-security-audit-webhook-linger-test");
+				}
+			}
+			Assert.assertTrue(lingerThreadFound);
+
+			// later batches are sent as well
+			auditlog.payload = null;
+			auditlog.store(MockAuditMessageFactory.validAuditMessage());
+			auditlog.store(MockAuditMessageFactory.validAuditMessage());
+			awaitPayload(auditlog);
+			Assert.assertEquals(2, DefaultObjectMapper.readTree(auditlog.payload).size());
+		} finally {
+			auditlog.close();
+		}
+	}
+
+	@Test
+	public void batchGzipHttpTest() throws Exception {
+		final List<String> contentEncodings = Collections.synchronizedList(new ArrayList<>());
+		final List<String> contentTypes = Collections.synchronizedList(new ArrayList<>());
+		final List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+
+		int port = findFreePort();
+		server = ServerBootstrap.bootstrap()
+				.setListenerPort(port)
+				.setServerInfo("Test/1.1")
+				.registerHandler("*", (request, response, context) -> {
+					HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+					Header contentEncoding = request.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+					contentEncodings.add(contentEncoding == null ? null : contentEncoding.getValue());
+					contentTypes.add(entity.getContentType().getValue());
+					try (InputStream in = new GZIPInputStream(entity.getContent())) {
+						bodies.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+					}
+				})
+				.create();
+		server.start();
+
+		Settings settings = Settings.builder()
+				.put("plugins.security.audit.config.webhook.url", "http://localhost:" + port + "/endpoint")
+				.put("plugins.security.audit.config.webhook.format", "ndjson")
+				.put("plugins.security.audit.config.webhook.batch.max_size", 2)
+				.put("plugins.security.audit.config.webhook.gzip", true)
+				.put("path.home", ".")
+				.put(SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+						FileHelper.getAbsoluteFilePathFromClassPath("auditlog/truststore.jks"))
+				.build();
+		LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+		WebhookSink auditlog = new WebhookSink("name", settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+		AuditMessage first = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+		AuditMessage second = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+		auditlog.store(first);
+		auditlog.store(second);
+		auditlog.close();
+
+		Assert.assertEquals(1, bodies.size());
+		Assert.assertEquals("gzip", contentEncodings.get(0));
+		Assert.assertTrue(contentTypes.get(0), contentTypes.get(0).startsWith("application/x-ndjson"));
+		String[] lines = bodies.get(0).split("\n");
+		Assert.assertEquals(2, lines.length);
+		Assert.assertEquals(DefaultObjectMapper.readTree(first.toJson()), DefaultObjectMapper.readTree(lines[0]));
+		Assert.assertEquals(DefaultObjectMapper.readTree(second.toJson()), DefaultObjectMapper.readTree(lines[1]));
+		Assert.assertEquals(0, fallback.messages.size());
+	}
+
+	private void awaitPayload(MockWebhookAuditLog auditlog) throws InterruptedException {
+		for (int i = 0; i < 500 && auditlog.payload == null; i++) {
+			Thread.sleep(10);
+		}
+		Assert.assertNotNull(auditlog.payload);
+	}
+
 	@Test
 	public void invalidUrlTest() throws Exception {
 
@@ -0,0 +1,38 @@
+package org.opensearch.security.auth;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.security.securityconf.InternalUsersModel;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class BackendRegistryTest {
+
+    @Test
+    public void testInternalUserChanged() {
+        final InternalUsersModel previous = internalUser("hash", "role1");
+
+        assertFalse(BackendRegistry.internalUserChanged(previous, internalUser("hash", "role1"), "user"));
+        assertTrue(BackendRegistry.internalUserChanged(previous, internalUser("newhash", "role1"), "user"));
+        assertTrue(BackendRegistry.internalUserChanged(previous, internalUser("hash", "role2"), "user"));
+        assertTrue(BackendRegistry.internalUserChanged(previous, mock(InternalUsersModel.class), "user"));
+        //users of other authentication backends are not affected
+        assertFalse(BackendRegistry.internalUserChanged(previous, internalUser("newhash", "role2"), "ldapuser"));
+    }
+
+    private static InternalUsersModel internalUser(final String hash, final String securityRole) {
+        final InternalUsersModel ium = mock(InternalUsersModel.class);
+        Mockito.when(ium.exists("user")).thenReturn(true);
+        Mockito.when(ium.getHash("user")).thenReturn(hash);
+        Mockito.when(ium.getBackenRoles("user")).thenReturn(Arrays.asList("backendrole"));
+        Mockito.when(ium.getAttributes("user")).thenReturn(Collections.emptyMap());
+        Mockito.when(ium.getSecurityRoles("user")).thenReturn(Arrays.asList(securityRole));
+        return ium;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.compliance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.wnameless.json.flattener.JsonFlattener;
+
+public class WatchedReadFieldsTest {
+
+    private static final String SOURCE = "{\"name\":\"n\",\"ssn\":\"123\",\"age\":42,\"score\":1.50,\"active\":true,\"none\":null,"
+            + "\"address\":{\"city\":\"c\",\"zip\":\"z\",\"geo\":{\"lat\":1,\"lon\":2}},\"tags\":[\"a\",{\"b\":\"c\"},[]],"
+            + "\"empty\":{},\"dotted.key\":\"d\",\"q\\\"uote\":\"q\"}";
+
+    @Test
+    public void testExtractsSameFieldsAsJsonFlattener() throws Exception {
+        assertSameAsFlattener(Set.of("*"));
+        assertSameAsFlattener(Set.of("ssn", "address.geo.lat", "tags[1].b", "tags[2]", "empty"));
+        assertSameAsFlattener(Set.of("address.*", "t*"));
+        assertSameAsFlattener(Set.of("[\\\"dotted.key\\\"]", "q\\\"uote", "none", "score", "active"));
+    }
+
+    @Test
+    public void testStringFlag() throws Exception {
+        final Map<String, Boolean> isString = new HashMap<>();
+        WatchedReadFields.of(Set.of("ssn", "age")).extract(SOURCE.getBytes(StandardCharsets.UTF_8), (k, v, s) -> isString.put(k, s));
+        Assert.assertEquals(Map.of("ssn", true, "age", false), isString);
+    }
+
+    @Test
+    public void testNone() throws Exception {
+        Assert.assertTrue(WatchedReadFields.of(Set.of()).isEmpty());
+        WatchedReadFields.NONE.extract(SOURCE.getBytes(StandardCharsets.UTF_8), (k, v, s) -> Assert.fail(k));
+    }
+
+    private static void assertSameAsFlattener(final Set<String> patterns) throws Exception {
+        final WatchedReadFields watchedFields = WatchedReadFields.of(patterns);
+        final Map<String, String> expected = new HashMap<>();
+        new JsonFlattener(SOURCE).flattenAsMap().forEach((k, v) -> {
+            if (watchedFields.test(k)) {
+                expected.put(k, String.valueOf(v));
+            }
+        });
+
+        final Map<String, String> actual = new HashMap<>();
+        watchedFields.extract(SOURCE.getBytes(StandardCharsets.UTF_8), (k, v, s) -> Assert.assertNull(actual.put(k, v)));
+
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(expected, actual);
+    }
+}
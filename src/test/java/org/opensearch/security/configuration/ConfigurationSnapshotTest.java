@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opensearch.common.settings.Settings;
+
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.support.ConfigConstants;
+
+public class ConfigurationSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        final ConfigurationSnapshot snapshot = new ConfigurationSnapshot(folder.getRoot().toPath().resolve("snapshot").resolve("config.snapshot"));
+        Assert.assertNull(snapshot.read(false));
+
+        snapshot.write(configuration());
+        final Map<CType, SecurityDynamicConfiguration<?>> read = snapshot.read(false);
+
+        Assert.assertEquals(2, read.size());
+        final SecurityDynamicConfiguration<?> roles = read.get(CType.ROLES);
+        Assert.assertEquals(RoleV7.class, roles.getImplementingClass());
+        Assert.assertEquals(7, roles.getSeqNo());
+        Assert.assertEquals(3, roles.getPrimaryTerm());
+        Assert.assertTrue(roles.exists("role"));
+        Assert.assertTrue(read.get(CType.TENANTS).exists("tenant"));
+    }
+
+    @Test
+    public void testSnapshotIsOnlyReadableByOwner() throws Exception {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        final Path file = folder.getRoot().toPath().resolve("config.snapshot");
+        //a leftover temporary file of an interrupted write does not keep its permissions
+        final Path tmpFile = file.resolveSibling("config.snapshot.tmp");
+        Files.createFile(tmpFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-rw-rw-")));
+
+        new ConfigurationSnapshot(file).write(configuration());
+
+        Assert.assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file));
+        Assert.assertFalse(Files.exists(tmpFile));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorruptedSnapshotIsRejected() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("config.snapshot");
+        final ConfigurationSnapshot snapshot = new ConfigurationSnapshot(file);
+        snapshot.write(configuration());
+
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+
+        snapshot.read(false);
+    }
+
+    @Test
+    public void testSnapshotPathIsWithinDataPath() throws Exception {
+        final Path dataPath = folder.newFolder("data").toPath().toAbsolutePath();
+        final Settings.Builder settings = Settings.builder()
+                .put(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_ENABLED, true)
+                .put("path.data", dataPath.toString());
+
+        Assert.assertEquals(dataPath.resolve("security_config_snapshot").resolve("config.snapshot"),
+                ConfigurationRepository.createSnapshot(settings.build()).getFile());
+        Assert.assertEquals(dataPath.resolve("snapshots").resolve("security.snapshot"), ConfigurationRepository.createSnapshot(
+                settings.put(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_PATH, "snapshots/security.snapshot").build()).getFile());
+        Assert.assertNull(ConfigurationRepository.createSnapshot(
+                settings.put(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_PATH, folder.getRoot().toPath().resolve("security.snapshot").toString()).build()));
+        Assert.assertNull(ConfigurationRepository.createSnapshot(
+                settings.put(ConfigConstants.SECURITY_CONFIG_SNAPSHOT_PATH, "../security.snapshot").build()));
+    }
+
+    private static Map<CType, SecurityDynamicConfiguration<?>> configuration() throws IOException {
+        final Map<CType, SecurityDynamicConfiguration<?>> configuration = new EnumMap<>(CType.class);
+        configuration.put(CType.ROLES, SecurityDynamicConfiguration.fromJson(
+                "{\"_meta\":{\"type\":\"roles\",\"config_version\":2},\"role\":{\"cluster_permissions\":[\"cluster_monitor\"]}}", CType.ROLES, 2, 7, 3));
+        configuration.put(CType.TENANTS, SecurityDynamicConfiguration.fromJson(
+                "{\"_meta\":{\"type\":\"tenants\",\"config_version\":2},\"tenant\":{\"description\":\"a tenant\"}}", CType.TENANTS, 2, 1, 1));
+        return configuration;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.security.support.ConfigConstants;
+
+public class DlsFlsFilterLeafReaderTest {
+
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+
+    @Before
+    public void setUp() {
+        threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_ACTION_NAME, "indices:data/read/search");
+    }
+
+    @Test
+    public void testFlsRulesAndFieldInfosAreShared() throws Exception {
+        try (Directory dir = new ByteBuffersDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            addDocument(writer);
+
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final DlsFlsFilterLeafReader first = wrap(leafReader, new HashSet<>(Arrays.asList("a", "b")));
+                final DlsFlsFilterLeafReader second = wrap(leafReader, new HashSet<>(Arrays.asList("b", "a")));
+                final DlsFlsFilterLeafReader other = wrap(leafReader, new HashSet<>(Arrays.asList("~a")));
+
+                Assert.assertSame(first.getFlsRules(), second.getFlsRules());
+                Assert.assertSame(first.getFieldInfos(), second.getFieldInfos());
+                Assert.assertEquals(2, first.getFieldInfos().size());
+                Assert.assertNotNull(first.getFieldInfos().fieldInfo("a"));
+                Assert.assertNull(first.getFieldInfos().fieldInfo("c"));
+
+                Assert.assertNotSame(first.getFlsRules(), other.getFlsRules());
+                final FieldInfos otherFieldInfos = other.getFieldInfos();
+                Assert.assertNotSame(first.getFieldInfos(), otherFieldInfos);
+                Assert.assertNull(otherFieldInfos.fieldInfo("a"));
+                Assert.assertNotNull(otherFieldInfos.fieldInfo("c"));
+            }
+        }
+    }
+
+    @Test
+    public void testFieldInfosAreEvictedWhenCoreCloses() throws Exception {
+        try (Directory dir = new ByteBuffersDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            addDocument(writer);
+
+            final IndexReader.CacheKey coreKey;
+            final FieldInfos fieldInfos;
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                coreKey = leafReader.getCoreCacheHelper().getKey();
+                fieldInfos = wrap(leafReader, new HashSet<>(Arrays.asList("a", "b"))).getFieldInfos();
+                Assert.assertTrue(DlsFlsFilterLeafReader.hasCachedFieldInfos(coreKey));
+
+                //a reopened reader shares the core of the unchanged segment
+                addDocument(writer);
+                try (DirectoryReader reopened = DirectoryReader.openIfChanged(reader)) {
+                    final LeafReader reopenedLeafReader = reopened.leaves().get(0).reader();
+                    Assert.assertSame(coreKey, reopenedLeafReader.getCoreCacheHelper().getKey());
+                    Assert.assertSame(fieldInfos, wrap(reopenedLeafReader, new HashSet<>(Arrays.asList("a", "b"))).getFieldInfos());
+                }
+                Assert.assertTrue(DlsFlsFilterLeafReader.hasCachedFieldInfos(coreKey));
+            }
+
+            Assert.assertFalse(DlsFlsFilterLeafReader.hasCachedFieldInfos(coreKey));
+        }
+    }
+
+    private DlsFlsFilterLeafReader wrap(final LeafReader leafReader, final Set<String> includesExcludes) {
+        return new DlsFlsFilterLeafReader(leafReader, includesExcludes, null, null, threadContext, null, null, null, shardId, null);
+    }
+
+    private static void addDocument(final IndexWriter writer) throws Exception {
+        final Document doc = new Document();
+        doc.add(new StringField("a", "1", Field.Store.YES));
+        doc.add(new StringField("b", "2", Field.Store.YES));
+        doc.add(new StringField("c", "3", Field.Store.YES));
+        writer.addDocument(doc);
+        writer.commit();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.common.settings.Settings;
+
+public class MaskedDocValuesDictionaryTest {
+
+    private final Salt salt = Salt.from(Settings.EMPTY);
+
+    @Test
+    public void testSortedDocValuesAreOrderedAfterMasking() throws Exception {
+        final MaskedField mf = new MaskedField("name::/[a-z]/::X", salt);
+
+        try (Directory dir = new ByteBuffersDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            for (String value : new String[] { "b2", "a1", "c1", "a3" }) {
+                final Document doc = new Document();
+                doc.add(new SortedDocValuesField("name", new BytesRef(value)));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final SortedDocValues original = leafReader.getSortedDocValues("name");
+                final SortedDocValues masked = MaskedDocValuesDictionary.get(leafReader, "name", mf, original).wrap(original);
+
+                //a1 and c1 are both masked to X1
+                Assert.assertEquals(3, masked.getValueCount());
+                Assert.assertEquals("X1", masked.lookupOrd(0).utf8ToString());
+                Assert.assertEquals("X2", masked.lookupOrd(1).utf8ToString());
+                Assert.assertEquals("X3", masked.lookupOrd(2).utf8ToString());
+                Assert.assertEquals(1, masked.lookupTerm(new BytesRef("X2")));
+                Assert.assertTrue(masked.lookupTerm(new BytesRef("b2")) < 0);
+
+                final List<String> values = new ArrayList<>();
+                while (masked.nextDoc() != SortedDocValues.NO_MORE_DOCS) {
+                    values.add(masked.lookupOrd(masked.ordValue()).utf8ToString());
+                }
+                Assert.assertEquals(List.of("X2", "X1", "X1", "X3"), values);
+
+                Assert.assertSame(MaskedDocValuesDictionary.get(leafReader, "name", mf, original),
+                        MaskedDocValuesDictionary.get(leafReader, "name", mf, leafReader.getSortedDocValues("name")));
+            }
+        }
+    }
+
+    @Test
+    public void testSortedSetDocValuesAreDeduplicatedAfterMasking() throws Exception {
+        final MaskedField mf = new MaskedField("tags::/[0-9]/::0", salt);
+
+        try (Directory dir = new ByteBuffersDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            final Document doc = new Document();
+            for (String value : new String[] { "z9", "a1", "a2" }) {
+                doc.add(new SortedSetDocValuesField("tags", new BytesRef(value)));
+            }
+            writer.addDocument(doc);
+
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final SortedSetDocValues original = leafReader.getSortedSetDocValues("tags");
+                final SortedSetDocValues masked = MaskedDocValuesDictionary.get(leafReader, "tags", mf, original).wrap(original);
+
+                Assert.assertEquals(2, masked.getValueCount());
+                Assert.assertTrue(masked.advanceExact(0));
+                Assert.assertEquals(0, masked.nextOrd());
+                Assert.assertEquals(1, masked.nextOrd());
+                Assert.assertEquals(SortedSetDocValues.NO_MORE_ORDS, masked.nextOrd());
+                Assert.assertEquals("a0", masked.lookupOrd(0).utf8ToString());
+                Assert.assertEquals("z0", masked.lookupOrd(1).utf8ToString());
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.apache.lucene.search.Query;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchModule;
+import org.opensearch.security.compliance.ComplianceIndexingOperationListener;
+import org.opensearch.security.privileges.PrivilegesEvaluator;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class SecurityFlsDlsIndexSearcherWrapperTest {
+
+    private static final Set<String> TERM_QUERY = Collections.singleton("{\"term\":{\"dept\":\"a\"}}");
+    private static final Set<String> NOW_QUERY = Collections.singleton("{\"range\":{\"@timestamp\":{\"gte\":\"now-1d\"}}}");
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+    private final AtomicInteger builtQueries = new AtomicInteger();
+    private IndexService indexService;
+    private SecurityFlsDlsIndexSearcherWrapper wrapper;
+
+    @Before
+    public void setUp() {
+        final ThreadPool threadPool = Mockito.mock(ThreadPool.class);
+        Mockito.when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        final MapperService mapperService = Mockito.mock(MapperService.class);
+        Mockito.when(mapperService.fieldType("dept")).thenReturn(new KeywordFieldMapper.KeywordFieldType("dept"));
+        Mockito.when(mapperService.fieldType("@timestamp")).thenReturn(new DateFieldMapper.DateFieldType("@timestamp"));
+        final NamedXContentRegistry xContentRegistry = new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents());
+
+        indexService = Mockito.mock(IndexService.class);
+        Mockito.when(indexService.index()).thenReturn(shardId.getIndex());
+        Mockito.when(indexService.getThreadPool()).thenReturn(threadPool);
+        Mockito.when(indexService.xContentRegistry()).thenReturn(xContentRegistry);
+        setMappingVersion(1);
+        Mockito.when(indexService.newQueryShardContext(anyInt(), isNull(), any(), isNull())).thenAnswer(invocation -> {
+            builtQueries.incrementAndGet();
+            final LongSupplier nowInMillis = invocation.getArgument(2);
+            return new QueryShardContext(0, new IndexSettings(indexService.getMetadata(), Settings.EMPTY), null, null, null, mapperService,
+                    null, null, xContentRegistry, null, null, null, nowInMillis, null, null, () -> true, null);
+        });
+
+        wrapper = new SecurityFlsDlsIndexSearcherWrapper(indexService,
+                Settings.builder().put(ConfigConstants.SECURITY_UNSUPPORTED_ALLOW_NOW_IN_DLS, true).build(), Mockito.mock(AdminDNs.class), null,
+                null, Mockito.mock(ComplianceIndexingOperationListener.class), Mockito.mock(PrivilegesEvaluator.class), null);
+    }
+
+    @Test
+    public void testDlsQueryIsCached() {
+        final Query query = wrapper.getDlsQuery(TERM_QUERY, shardId);
+        Assert.assertEquals(1, builtQueries.get());
+
+        Assert.assertSame(query, wrapper.getDlsQuery(TERM_QUERY, shardId));
+        Assert.assertEquals(1, builtQueries.get());
+
+        //other queries are a cache miss
+        wrapper.getDlsQuery(Collections.singleton("{\"term\":{\"dept\":\"b\"}}"), shardId);
+        Assert.assertEquals(2, builtQueries.get());
+    }
+
+    @Test
+    public void testMappingChangeEvictsDlsQueries() {
+        final Query query = wrapper.getDlsQuery(TERM_QUERY, shardId);
+
+        setMappingVersion(2);
+        final Query rebuilt = wrapper.getDlsQuery(TERM_QUERY, shardId);
+        Assert.assertEquals(2, builtQueries.get());
+        Assert.assertNotSame(query, rebuilt);
+        Assert.assertEquals(query, rebuilt);
+
+        Assert.assertSame(rebuilt, wrapper.getDlsQuery(TERM_QUERY, shardId));
+        Assert.assertEquals(2, builtQueries.get());
+    }
+
+    @Test
+    public void testQueriesUsingNowAreNotCached() {
+        wrapper.getDlsQuery(NOW_QUERY, shardId);
+        wrapper.getDlsQuery(NOW_QUERY, shardId);
+        Assert.assertEquals(2, builtQueries.get());
+    }
+
+    private void setMappingVersion(final long mappingVersion) {
+        Mockito.when(indexService.getMetadata()).thenReturn(IndexMetadata.builder(shardId.getIndexName())
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, "_na_"))
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .mappingVersion(mappingVersion)
+                .build());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetAction;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.TermsLookup;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class TermsLookupCacheTest {
+
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    private final List<String> confRequestHeaders = new ArrayList<>();
+    private final List<Object> lookupUsers = new ArrayList<>();
+    private Client client;
+    private TermsLookupCache cache;
+
+    @Before
+    public void setUp() {
+        final ThreadPool threadPool = Mockito.mock(ThreadPool.class);
+        Mockito.when(threadPool.getThreadContext()).thenReturn(threadContext);
+        client = Mockito.mock(Client.class);
+        Mockito.when(client.settings()).thenReturn(Settings.EMPTY);
+        Mockito.when(client.threadPool()).thenReturn(threadPool);
+        Mockito.doAnswer(invocation -> {
+            final GetRequest request = invocation.getArgument(1);
+            final ActionListener<GetResponse> listener = invocation.getArgument(2);
+            confRequestHeaders.add(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER));
+            lookupUsers.add(threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER));
+            listener.onResponse(new GetResponse(new GetResult(request.index(), request.id(), 0, 1, 1, true,
+                    new BytesArray("{\"departments\":[\"a\",\"b\"]}"), Collections.emptyMap(), Collections.emptyMap())));
+            return null;
+        }).when(client).execute(eq(GetAction.INSTANCE), any(), any());
+
+        cache = new TermsLookupCache(Settings.builder()
+                .put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES, true)
+                .put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 60)
+                .build(), client, NamedXContentRegistry.EMPTY, null);
+    }
+
+    @Test
+    public void testLookupsAreLeftToTheUserUnlessPrivilegesMayBeBypassed() {
+        //the TTL alone does not change how lookup documents are fetched
+        final TermsLookupCache ttlOnly = new TermsLookupCache(Settings.builder().put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 60).build(),
+                client, NamedXContentRegistry.EMPTY, null);
+        Assert.assertFalse(ttlOnly.isEnabled());
+        Assert.assertFalse(ttlOnly.isCacheEnabled());
+
+        Assert.assertTrue(cache.isEnabled());
+        Assert.assertTrue(cache.isCacheEnabled());
+    }
+
+    @Test
+    public void testLookupsAreNotCachedWithoutTtl() throws Exception {
+        cache = new TermsLookupCache(Settings.builder().put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_BYPASS_LOOKUP_INDEX_PRIVILEGES, true).build(),
+                client, NamedXContentRegistry.EMPTY, null);
+        Assert.assertTrue(cache.isEnabled());
+        Assert.assertFalse(cache.isCacheEnabled());
+
+        resolve("lookup", "1");
+        resolve("lookup", "1");
+        Assert.assertEquals(Arrays.asList("true", "true"), confRequestHeaders);
+    }
+
+    @Test
+    public void testLookupIsCachedAndInvalidatedByWrites() throws Exception {
+        resolve("lookup", "1");
+        resolve("lookup", "1");
+        Assert.assertEquals(1, confRequestHeaders.size());
+
+        //writes to other documents do not evict the lookup document
+        cache.postIndex(new ShardId("lookup", "_na_", 0), index("2"), (Engine.IndexResult) null);
+        cache.postIndex(new ShardId("other", "_na_", 0), index("1"), (Engine.IndexResult) null);
+        final QueryBuilder resolved = resolve("lookup", "1");
+        Assert.assertEquals(1, confRequestHeaders.size());
+        Assert.assertEquals(Arrays.asList("a", "b"), ((TermsQueryBuilder) resolved).values());
+
+        cache.postIndex(new ShardId("lookup", "_na_", 0), index("1"), (Engine.IndexResult) null);
+        resolve("lookup", "1");
+        Assert.assertEquals(2, confRequestHeaders.size());
+
+        final Engine.Delete delete = Mockito.mock(Engine.Delete.class);
+        Mockito.when(delete.id()).thenReturn("1");
+        cache.postDelete(new ShardId("lookup", "_na_", 0), delete, (Engine.DeleteResult) null);
+        resolve("lookup", "1");
+        Assert.assertEquals(3, confRequestHeaders.size());
+    }
+
+    @Test
+    public void testLookupIsFetchedWithoutTheUserContext() throws Exception {
+        threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, "user");
+        resolve("lookup", "1");
+
+        Assert.assertEquals(Collections.singletonList("true"), confRequestHeaders);
+        Assert.assertEquals(Collections.singletonList(null), lookupUsers);
+        //the context of the caller is restored
+        Assert.assertEquals("user", threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER));
+        Assert.assertNull(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER));
+    }
+
+    private QueryBuilder resolve(final String index, final String id) throws Exception {
+        final AtomicReference<QueryBuilder> resolved = new AtomicReference<>();
+        cache.resolve(new TermsQueryBuilder("department", new TermsLookup(index, id, "departments")), ActionListener.wrap(resolved::set, e -> {
+            throw new AssertionError(e);
+        }));
+        Assert.assertNotNull(resolved.get());
+        return resolved.get();
+    }
+
+    private static Engine.Index index(final String id) {
+        final Engine.Index index = Mockito.mock(Engine.Index.class);
+        Mockito.when(index.id()).thenReturn(id);
+        return index;
+    }
+}
@@ -32,7 +32,11 @@ import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
 
 import java.net.URLEncoder;
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.opensearch.security.OpenSearchSecurityPlugin.LEGACY_OPENDISTRO_PREFIX;
 import static org.opensearch.security.OpenSearchSecurityPlugin.PLUGINS_PREFIX;
@@ -78,6 +82,39 @@ public class UserApiTest extends AbstractRestApiUnitTest {
         checkGeneralAccess(HttpStatus.SC_OK, "newuser", "newuser");
     }
 
+    @Test
+    public void testConcurrentUpdatesOfDifferentUsers() throws Exception {
+
+        setup();
+
+        rh.keystore = "restapi/kirk-keystore.jks";
+        rh.sendAdminCertificate = true;
+
+        final int numOfUsers = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numOfUsers);
+        final List<Future<HttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < numOfUsers; i++) {
+            final String username = "concurrent_user_" + i;
+            futures.add(executorService.submit(() -> rh.executePutRequest(ENDPOINT + "/internalusers/" + username,
+                    "{\"password\": \"" + username + "\", \"backend_roles\": [\"concurrent\"]}", new Header[0])));
+        }
+        //a concurrent patch of the same config type is retried as well
+        futures.add(executorService.submit(() -> rh.executePatchRequest(ENDPOINT + "/internalusers",
+                "[{ \"op\": \"add\", \"path\": \"/concurrent_patched_user\", \"value\": {\"password\": \"patched\"} }]", new Header[0])));
+        executorService.shutdown();
+
+        for (Future<HttpResponse> future : futures) {
+            final HttpResponse response = future.get();
+            Assert.assertTrue(response.getBody(), response.getStatusCode() == HttpStatus.SC_CREATED || response.getStatusCode() == HttpStatus.SC_OK);
+        }
+
+        for (int i = 0; i < numOfUsers; i++) {
+            final HttpResponse response = rh.executeGetRequest(ENDPOINT + "/internalusers/concurrent_user_" + i, new Header[0]);
+            Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+        }
+        Assert.assertEquals(HttpStatus.SC_OK, rh.executeGetRequest(ENDPOINT + "/internalusers/concurrent_patched_user", new Header[0]).getStatusCode());
+    }
+
     @Test
     public void testParallelPutRequests() throws Exception {
         
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.securityconf.ConfigModelV7.SecurityRole;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.securityconf.impl.v7.TenantV7;
+import org.opensearch.security.user.User;
+
+public class ConfigModelV7Test {
+
+    @Test
+    public void testUnchangedRolesAreReused() throws Exception {
+        final ConfigModelV7 previous = configModel(roles("indices:data/read/search"), actionGroups("indices:data/read/*"), null);
+        final ConfigModelV7 current = configModel(roles("indices:data/read/get"), actionGroups("indices:data/read/*"), previous);
+
+        Assert.assertSame(securityRoles(previous).get("role_a"), securityRoles(current).get("role_a"));
+        Assert.assertNotSame(securityRoles(previous).get("role_b"), securityRoles(current).get("role_b"));
+    }
+
+    @Test
+    public void testRolesAreRebuiltIfActionGroupsChange() throws Exception {
+        final ConfigModelV7 previous = configModel(roles("indices:data/read/search"), actionGroups("indices:data/read/*"), null);
+        final ConfigModelV7 current = configModel(roles("indices:data/read/search"), actionGroups("indices:data/write/*"), previous);
+
+        Assert.assertNotSame(securityRoles(previous).get("role_a"), securityRoles(current).get("role_a"));
+        Assert.assertTrue(current.getSecurityRoles().filter(Collections.singleton("role_a")).impliesClusterPermissionPermission("indices:data/write/index"));
+    }
+
+    @Test
+    public void testNestedAndCyclicActionGroups() throws Exception {
+        assertCyclicActionGroupsAreResolved("{\"_meta\":{\"type\":\"actiongroups\",\"config_version\":2},"
+                + "\"custom_group\":{\"allowed_actions\":[\"group_b\", \"indices:data/read/get\"]},"
+                + "\"group_b\":{\"allowed_actions\":[\"custom_group\", \"group_c\", \"indices:data/read/search\"]},"
+                + "\"group_c\":{\"allowed_actions\":[\"group_c\", \"indices:data/read/scroll\"]}}");
+        //the result does not depend on which group of the cycle is resolved first
+        assertCyclicActionGroupsAreResolved("{\"_meta\":{\"type\":\"actiongroups\",\"config_version\":2},"
+                + "\"group_c\":{\"allowed_actions\":[\"group_c\", \"indices:data/read/scroll\"]},"
+                + "\"group_b\":{\"allowed_actions\":[\"custom_group\", \"group_c\", \"indices:data/read/search\"]},"
+                + "\"custom_group\":{\"allowed_actions\":[\"group_b\", \"indices:data/read/get\"]}}");
+    }
+
+    private static void assertCyclicActionGroupsAreResolved(final String actionGroups) throws Exception {
+        final ConfigModelV7 configModel = configModel(roles("group_b"), actionGroups, null);
+
+        for (String role : Arrays.asList("role_a", "role_b")) {
+            final SecurityRoles securityRoles = configModel.getSecurityRoles().filter(Collections.singleton(role));
+            Assert.assertTrue(role, securityRoles.impliesClusterPermissionPermission("indices:data/read/get"));
+            Assert.assertTrue(role, securityRoles.impliesClusterPermissionPermission("indices:data/read/search"));
+            Assert.assertTrue(role, securityRoles.impliesClusterPermissionPermission("indices:data/read/scroll"));
+            Assert.assertFalse(role, securityRoles.impliesClusterPermissionPermission("custom_group"));
+            Assert.assertFalse(role, securityRoles.impliesClusterPermissionPermission("group_c"));
+        }
+    }
+
+    @Test
+    public void testMapTenants() throws Exception {
+        final String roles = "{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"role_ro\":{\"tenant_permissions\":[{\"tenant_patterns\":[\"team_*\"],\"allowed_actions\":[\"kibana:saved_objects/*/read\"]}]},"
+                + "\"role_rw\":{\"tenant_permissions\":[{\"tenant_patterns\":[\"team_a\"],\"allowed_actions\":[\"kibana:saved_objects/*/write\"]}]}}";
+        final String tenants = "{\"_meta\":{\"type\":\"tenants\",\"config_version\":2},\"team_a\":{},\"team_b\":{}}";
+        final ConfigModelV7 configModel = configModel(roles, actionGroups("indices:data/read/*"), tenants, null);
+
+        final Map<String, Boolean> expected = new HashMap<>();
+        expected.put("user", true);
+        expected.put("team_a", true);
+        expected.put("team_b", false);
+        Assert.assertEquals(expected, configModel.mapTenants(new User("user"), new HashSet<>(Arrays.asList("role_ro", "role_rw"))));
+        //the result for the same roles is cached, but the private tenant is the one of the user
+        expected.remove("user");
+        expected.put("other_user", true);
+        Assert.assertEquals(expected, configModel.mapTenants(new User("other_user"), new HashSet<>(Arrays.asList("role_rw", "role_ro"))));
+        Assert.assertEquals(Collections.singletonMap("user", true), configModel.mapTenants(new User("user"), Collections.singleton("unknown")));
+    }
+
+    private static ConfigModelV7 configModel(final String roles, final String actionGroups, final ConfigModelV7 previous) throws Exception {
+        return configModel(roles, actionGroups, "{\"_meta\":{\"type\":\"tenants\",\"config_version\":2}}", previous);
+    }
+
+    private static ConfigModelV7 configModel(final String roles, final String actionGroups, final String tenants, final ConfigModelV7 previous) throws Exception {
+        final DynamicConfigModel dcm = Mockito.mock(DynamicConfigModel.class);
+        Mockito.when(dcm.getHostsResolverMode()).thenReturn("ip-only");
+        return new ConfigModelV7(
+                SecurityDynamicConfiguration.<RoleV7>fromJson(roles, CType.ROLES, 2, 0, 0),
+                SecurityDynamicConfiguration.<RoleMappingsV7>fromJson("{\"_meta\":{\"type\":\"rolesmapping\",\"config_version\":2}}", CType.ROLESMAPPING, 2, 0, 0),
+                SecurityDynamicConfiguration.<ActionGroupsV7>fromJson(actionGroups, CType.ACTIONGROUPS, 2, 0, 0),
+                SecurityDynamicConfiguration.<TenantV7>fromJson(tenants, CType.TENANTS, 2, 0, 0),
+                dcm, Settings.EMPTY, previous);
+    }
+
+    private static String roles(final String roleBClusterPermission) {
+        return "{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"role_a\":{\"cluster_permissions\":[\"custom_group\"]},"
+                + "\"role_b\":{\"cluster_permissions\":[\"" + roleBClusterPermission + "\"]}}";
+    }
+
+    private static String actionGroups(final String permission) {
+        return "{\"_meta\":{\"type\":\"actiongroups\",\"config_version\":2},"
+                + "\"custom_group\":{\"allowed_actions\":[\"" + permission + "\"]}}";
+    }
+
+    private static Map<String, SecurityRole> securityRoles(final ConfigModelV7 configModel) {
+        return ((ConfigModelV7.SecurityRoles) configModel.getSecurityRoles()).roles.stream()
+                .collect(Collectors.toMap(SecurityRole::getName, role -> role));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.greenrobot.eventbus.Subscribe;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ConfigConstants;
+
+public class DynamicConfigFactoryTest {
+
+    private static final Map<CType, String> CONFIGURATION = new EnumMap<>(CType.class);
+
+    static {
+        CONFIGURATION.put(CType.CONFIG, "{\"_meta\":{\"type\":\"config\",\"config_version\":2},\"config\":{\"dynamic\":{\"authc\":{},\"authz\":{}}}}");
+        CONFIGURATION.put(CType.INTERNALUSERS, "{\"_meta\":{\"type\":\"internalusers\",\"config_version\":2},"
+                + "\"admin\":{\"hash\":\"$2y$12$abc\",\"backend_roles\":[\"admin\"]}}");
+        CONFIGURATION.put(CType.ROLES, "{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"role_a\":{\"cluster_permissions\":[\"cluster_monitor\"]}}");
+        CONFIGURATION.put(CType.ROLESMAPPING, "{\"_meta\":{\"type\":\"rolesmapping\",\"config_version\":2},"
+                + "\"role_a\":{\"backend_roles\":[\"admin\"]}}");
+        CONFIGURATION.put(CType.ACTIONGROUPS, "{\"_meta\":{\"type\":\"actiongroups\",\"config_version\":2}}");
+        CONFIGURATION.put(CType.TENANTS, "{\"_meta\":{\"type\":\"tenants\",\"config_version\":2}}");
+        CONFIGURATION.put(CType.NODESDN, "{\"_meta\":{\"type\":\"nodesdn\",\"config_version\":2}}");
+        CONFIGURATION.put(CType.WHITELIST, "{\"_meta\":{\"type\":\"whitelist\",\"config_version\":2}}");
+        CONFIGURATION.put(CType.AUDIT, "{\"_meta\":{\"type\":\"audit\",\"config_version\":2}}");
+    }
+
+    private ConfigurationRepository cr;
+    private DynamicConfigFactory factory;
+    private final Subscriber subscriber = new Subscriber();
+
+    @Before
+    public void setUp() throws Exception {
+        DynamicConfigFactory.resetStatics();
+        cr = Mockito.mock(ConfigurationRepository.class);
+        for (Map.Entry<CType, String> entry : CONFIGURATION.entrySet()) {
+            Mockito.when(cr.getConfiguration(entry.getKey())).thenAnswer(invocation ->
+                    SecurityDynamicConfiguration.fromJson(entry.getValue(), entry.getKey(), 2, 1, 1));
+        }
+
+        factory = new DynamicConfigFactory(cr, Settings.builder().put(ConfigConstants.SECURITY_UNSUPPORTED_LOAD_STATIC_RESOURCES, false).build(),
+                null, null, null, null);
+        factory.registerDCFListener(subscriber);
+        factory.onChange(changed(CType.values()));
+    }
+
+    @Test
+    public void testRolesMappingChangeReusesDynamicConfigModel() {
+        final ConfigModel cm = subscriber.last(ConfigModel.class);
+        final InternalUsersModel ium = subscriber.last(InternalUsersModel.class);
+        subscriber.posted.clear();
+
+        factory.onChange(changed(CType.ROLESMAPPING));
+
+        Assert.assertEquals(2, subscriber.posted.size());
+        Assert.assertNull(subscriber.last(DynamicConfigModel.class));
+        Assert.assertNotNull(subscriber.last(ConfigModel.class));
+        Assert.assertNotSame(cm, subscriber.last(ConfigModel.class));
+        Assert.assertNotNull(subscriber.last(InternalUsersModel.class));
+        Assert.assertNotSame(ium, subscriber.last(InternalUsersModel.class));
+    }
+
+    @Test
+    public void testConfigChangeRebuildsAllModels() {
+        final DynamicConfigModel dcm = subscriber.last(DynamicConfigModel.class);
+        final ConfigModel cm = subscriber.last(ConfigModel.class);
+        final InternalUsersModel ium = subscriber.last(InternalUsersModel.class);
+        subscriber.posted.clear();
+
+        factory.onChange(changed(CType.CONFIG));
+
+        Assert.assertEquals(3, subscriber.posted.size());
+        Assert.assertNotNull(subscriber.last(DynamicConfigModel.class));
+        Assert.assertNotSame(dcm, subscriber.last(DynamicConfigModel.class));
+        Assert.assertNotNull(subscriber.last(ConfigModel.class));
+        Assert.assertNotSame(cm, subscriber.last(ConfigModel.class));
+        Assert.assertNotNull(subscriber.last(InternalUsersModel.class));
+        Assert.assertNotSame(ium, subscriber.last(InternalUsersModel.class));
+    }
+
+    private static Map<CType, SecurityDynamicConfiguration<?>> changed(final CType... types) {
+        final Map<CType, SecurityDynamicConfiguration<?>> changed = new EnumMap<>(CType.class);
+        for (CType type : types) {
+            changed.put(type, SecurityDynamicConfiguration.empty());
+        }
+        return Collections.unmodifiableMap(changed);
+    }
+
+    public static class Subscriber {
+
+        final List<Object> posted = new ArrayList<>();
+
+        @Subscribe
+        public void onConfigModelChanged(ConfigModel cm) {
+            posted.add(cm);
+        }
+
+        @Subscribe
+        public void onDynamicConfigModelChanged(DynamicConfigModel dcm) {
+            posted.add(dcm);
+        }
+
+        @Subscribe
+        public void onInternalUsersModelChanged(InternalUsersModel ium) {
+            posted.add(ium);
+        }
+
+        <T> T last(final Class<T> type) {
+            T last = null;
+            for (Object model : posted) {
+                if (type.isInstance(model)) {
+                    last = type.cast(model);
+                }
+            }
+            return last;
+        }
+    }
+}
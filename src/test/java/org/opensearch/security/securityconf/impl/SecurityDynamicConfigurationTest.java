@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package org.opensearch.security.securityconf.impl;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.v7.InternalUserV7;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+
+public class SecurityDynamicConfigurationTest {
+
+    private static final String INTERNAL_USERS = "{\"_meta\":{\"type\":\"internalusers\",\"config_version\":2},"
+            + "\"admin\":{\"hash\":\"$2y$12$abc\",\"reserved\":true,\"backend_roles\":[\"admin\"],\"attributes\":{\"a\":\"b\"}},"
+            + "\"kibanaro\":{\"hash\":\"$2y$12$def\",\"backend_roles\":[\"kibanauser\",\"readall\"]}}";
+
+    @Test
+    public void testDeepClone() throws Exception {
+        final SecurityDynamicConfiguration<InternalUserV7> original = SecurityDynamicConfiguration.fromJson(INTERNAL_USERS, CType.INTERNALUSERS, 2, 5, 1);
+        final SecurityDynamicConfiguration<InternalUserV7> clone = original.deepClone();
+
+        Assert.assertEquals(json(original), json(clone));
+        Assert.assertEquals(CType.INTERNALUSERS, clone.getCType());
+        Assert.assertEquals(2, clone.getVersion());
+        Assert.assertEquals(5, clone.getSeqNo());
+        Assert.assertEquals(1, clone.getPrimaryTerm());
+
+        Assert.assertNotSame(original.getCEntry("admin"), clone.getCEntry("admin"));
+        clone.getCEntry("admin").setHash("changed");
+        clone.getCEntry("admin").getBackend_roles().add("changed");
+        clone.remove("kibanaro");
+        Assert.assertEquals("$2y$12$abc", original.getCEntry("admin").getHash());
+        Assert.assertFalse(original.getCEntry("admin").getBackend_roles().contains("changed"));
+        Assert.assertTrue(original.exists("kibanaro"));
+    }
+
+    @Test
+    public void testFromNode() throws Exception {
+        final SecurityDynamicConfiguration<InternalUserV7> fromNode = SecurityDynamicConfiguration.fromNode(DefaultObjectMapper.readTree(INTERNAL_USERS),
+                CType.INTERNALUSERS, 2, 5, 1);
+
+        Assert.assertEquals(json(SecurityDynamicConfiguration.fromJson(INTERNAL_USERS, CType.INTERNALUSERS, 2, 5, 1)), json(fromNode));
+        Assert.assertEquals(5, fromNode.getSeqNo());
+        Assert.assertTrue(fromNode.getCEntry("admin").isReserved());
+    }
+
+    @Test(expected = IOException.class)
+    public void testFromNodeValidatesMeta() throws Exception {
+        SecurityDynamicConfiguration.fromNode(DefaultObjectMapper.readTree("{\"admin\":{\"hash\":\"abc\"}}"), CType.INTERNALUSERS, 2, 5, 1);
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        final SecurityDynamicConfiguration<InternalUserV7> internalUsers = SecurityDynamicConfiguration.fromJson(INTERNAL_USERS, CType.INTERNALUSERS, 2, 5, 1);
+        final SecurityDynamicConfiguration<RoleMappingsV7> rolesMapping = SecurityDynamicConfiguration.fromJson(
+                "{\"_meta\":{\"type\":\"rolesmapping\",\"config_version\":2},\"all_access\":{\"backend_roles\":[\"admin\"]}}",
+                CType.ROLESMAPPING, 2, 5, 1);
+        final String json = json(internalUsers);
+        final long bytes = internalUsers.ramBytesUsed();
+        Assert.assertTrue(bytes > 0);
+
+        internalUsers.compact();
+        rolesMapping.compact();
+
+        Assert.assertEquals(json, json(internalUsers));
+        //backend role names are shared across entries and config types
+        Assert.assertSame(internalUsers.getCEntry("admin").getBackend_roles().get(0), rolesMapping.getCEntry("all_access").getBackend_roles().get(0));
+        Assert.assertTrue(internalUsers.ramBytesUsed() <= bytes);
+        //the entries stay mutable
+        internalUsers.getCEntry("kibanaro").getBackend_roles().add("other");
+        internalUsers.getCEntry("admin").getAttributes().put("c", "d");
+    }
+
+    private static String json(final SecurityDynamicConfiguration<?> configuration) throws IOException {
+        return DefaultObjectMapper.readTree(DefaultObjectMapper.writeValueAsString(configuration, false)).toString();
+    }
+}